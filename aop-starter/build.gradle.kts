@@ -4,9 +4,12 @@ val lombokVersion = "1.18.34"
 val junitVersion = "5.8.1"
 val log4jVersion = "2.20.0"
 val apacheCommonsVersion = "3.17.0"
+val caffeineCacheVersion = "3.1.8"
+val jmhCoreVersion = "1.37"
 
 plugins {
     id("java")
+    id("me.champeau.jmh")
 }
 
 group = "ru.tbank"
@@ -16,6 +19,8 @@ repositories {
     mavenCentral()
 }
 
+val aspectjAgent: Configuration by configurations.creating
+
 dependencies {
     // spring
     implementation(platform("org.springframework.boot:spring-boot-dependencies:$springBootVersion"))
@@ -27,6 +32,14 @@ dependencies {
 
     // aop
     implementation("org.springframework.boot:spring-boot-starter-aop")
+    aspectjAgent(platform("org.springframework.boot:spring-boot-dependencies:$springBootVersion"))
+    aspectjAgent("org.aspectj:aspectjweaver")
+
+    // actuator
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+
+    // cache
+    implementation("com.github.ben-manes.caffeine:caffeine:$caffeineCacheVersion")
 
     // log4j
     implementation("org.apache.logging.log4j:log4j-api:$log4jVersion")
@@ -40,4 +53,9 @@ dependencies {
 
 tasks.getByName<Test>("test") {
     useJUnitPlatform()
+}
+
+jmh {
+    jmhVersion.set(jmhCoreVersion)
+    jvmArgsAppend.add(aspectjAgent.elements.map { "-javaagent:${it.single().asFile.absolutePath}" })
 }
\ No newline at end of file
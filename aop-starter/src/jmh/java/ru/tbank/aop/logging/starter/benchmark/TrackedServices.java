@@ -0,0 +1,41 @@
+package ru.tbank.aop.logging.starter.benchmark;
+
+import ru.tbank.aop.logging.starter.annotation.MethodExecutionTimeTracked;
+
+class PlainService {
+
+    public long compute(long value) {
+        return value * 31 + 7;
+    }
+
+    public long computeTwice(long value) {
+        return compute(compute(value));
+    }
+}
+
+/**
+ * Не вплетается агентом (см. src/jmh/resources/META-INF/aop.xml), замеряется только через прокси.
+ */
+@MethodExecutionTimeTracked
+class ProxiedService {
+
+    public long compute(long value) {
+        return value * 31 + 7;
+    }
+
+    public long computeTwice(long value) {
+        return compute(compute(value));
+    }
+}
+
+@MethodExecutionTimeTracked
+class WovenService {
+
+    public long compute(long value) {
+        return value * 31 + 7;
+    }
+
+    public long computeTwice(long value) {
+        return compute(compute(value));
+    }
+}
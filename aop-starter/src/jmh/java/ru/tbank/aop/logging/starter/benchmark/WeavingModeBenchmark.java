@@ -0,0 +1,90 @@
+package ru.tbank.aop.logging.starter.benchmark;
+
+import org.aspectj.lang.Aspects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import ru.tbank.aop.logging.starter.aspect.MethodExecutionTimeLoggedAspect;
+import ru.tbank.aop.logging.starter.aspect.MethodExecutionTimeTracker;
+import ru.tbank.aop.logging.starter.aspect.WovenMethodExecutionTimeAspect;
+import ru.tbank.aop.logging.starter.config.MethodExecutionTimeProperties;
+import ru.tbank.aop.logging.starter.metrics.MethodExecutionTimeRegistry;
+import ru.tbank.aop.logging.starter.slowcall.SlowCallRecorder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнивает накладные расходы замера времени в proxy-режиме и в режиме AspectJ-вплетения.
+ * Запуск: ./gradlew :aop-starter:jmh (JVM форков стартует с -javaagent:aspectjweaver.jar).
+ * В computeTwice proxy-режим замеряет только внешний вызов, вплетенный аспект - все три.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class WeavingModeBenchmark {
+
+    private PlainService plainService;
+    private ProxiedService proxiedService;
+    private WovenService wovenService;
+    private long value;
+
+    @Setup
+    public void setup() {
+        MethodExecutionTimeProperties properties = new MethodExecutionTimeProperties();
+        MethodExecutionTimeTracker tracker = new MethodExecutionTimeTracker(
+                List.of(new MethodExecutionTimeRegistry()), new SlowCallRecorder(properties), properties);
+
+        plainService = new PlainService();
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new ProxiedService());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new MethodExecutionTimeLoggedAspect(tracker));
+        proxiedService = proxyFactory.getProxy();
+
+        Aspects.aspectOf(WovenMethodExecutionTimeAspect.class).setMethodExecutionTimeTracker(tracker);
+        wovenService = new WovenService();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Aspects.aspectOf(WovenMethodExecutionTimeAspect.class).setMethodExecutionTimeTracker(null);
+    }
+
+    @Benchmark
+    public long baseline() {
+        return plainService.compute(value++);
+    }
+
+    @Benchmark
+    public long proxyMode() {
+        return proxiedService.compute(value++);
+    }
+
+    @Benchmark
+    public long aspectjMode() {
+        return wovenService.compute(value++);
+    }
+
+    @Benchmark
+    public long proxyModeSelfInvocation() {
+        return proxiedService.computeTwice(value++);
+    }
+
+    @Benchmark
+    public long aspectjModeSelfInvocation() {
+        return wovenService.computeTwice(value++);
+    }
+}
@@ -0,0 +1,35 @@
+package ru.tbank.aop.logging.starter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Объединяет конкурентные вызовы метода с одним параметром-ключом в один вызов пакетного метода того же бина.
+ * Пакетный метод принимает {@link java.util.Collection} ключей и возвращает {@link java.util.Map} ключ - результат.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Batched {
+
+    /**
+     * Название пакетного метода.
+     */
+    String bulkMethod();
+
+    /**
+     * Максимальный размер пакета, при достижении которого пакет отправляется сразу.
+     */
+    int maxBatchSize() default 100;
+
+    /**
+     * Время накопления пакета в миллисекундах с момента первого вызова.
+     */
+    long windowMs() default 5;
+
+    /**
+     * Время ожидания результата пакетного вызова в миллисекундах сверх {@link #windowMs()}.
+     */
+    long timeoutMs() default 1000;
+}
@@ -0,0 +1,22 @@
+package ru.tbank.aop.logging.starter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Ограничивает количество одновременных выполнений метода.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+
+    int maxConcurrentCalls() default 10;
+
+    /**
+     * Максимальное время ожидания свободного слота в миллисекундах, после которого вызов отклоняется
+     * с {@link ru.tbank.aop.logging.starter.exception.BulkheadFullException}.
+     */
+    long maxWaitMs() default 0;
+}
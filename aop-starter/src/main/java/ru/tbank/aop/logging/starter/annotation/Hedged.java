@@ -0,0 +1,36 @@
+package ru.tbank.aop.logging.starter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Если метод не завершился за время задержки, параллельно запускается повторный вызов и возвращается
+ * результат первого успешно завершившегося. Подходит только для идемпотентных методов.
+ * Все попытки выполняются в ограниченном пуле, вызывающий поток только ждет результат; проигравшие попытки
+ * прерываются. Аспект применяется внутри {@link Bulkhead} и CircuitBreaker, поэтому все попытки одного
+ * вызова учитываются ими как один вызов.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Hedged {
+
+    /**
+     * Фиксированная задержка перед повторным вызовом в миллисекундах.
+     * Отрицательное значение - задержка равна перцентилю {@link #delayPercentile()} наблюдаемых длительностей.
+     */
+    long delayMs() default -1;
+
+    double delayPercentile() default 95.0;
+
+    /**
+     * Задержка, используемая пока не накоплено достаточно замеров для расчета перцентиля.
+     */
+    long initialDelayMs() default 100;
+
+    /**
+     * Максимальное количество одновременных попыток, включая исходный вызов.
+     */
+    int maxAttempts() default 2;
+}
@@ -0,0 +1,40 @@
+package ru.tbank.aop.logging.starter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Кэширует результат метода по значениям параметров. Аспект применяется через Spring-прокси (в том числе
+ * при aop-starter.weaving.mode=aspectj), поэтому метод того же бина нужно вызывать через прокси,
+ * например полученный из {@code ObjectProvider} самого бина, а не через this.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Memoized {
+
+    /**
+     * Максимальное количество результатов, хранимых для метода.
+     */
+    long maximumSize() default 1_000;
+
+    /**
+     * Время жизни результата с момента вычисления. Отрицательное значение - без ограничения.
+     */
+    long ttl() default -1;
+
+    TimeUnit ttlUnit() default TimeUnit.SECONDS;
+
+    /**
+     * Индексы параметров метода, из которых строится ключ. Пустой массив - все параметры.
+     */
+    int[] keyParameters() default {};
+
+    /**
+     * Время ожидания результата, который в этот момент вычисляет другой поток, в миллисекундах.
+     * По истечении метод вызывается без кэша. Отрицательное значение - ждать без ограничения.
+     */
+    long waitTimeoutMs() default 10_000;
+}
@@ -8,4 +8,17 @@ import java.lang.annotation.Target;
 @Target({ElementType.METHOD, ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface MethodExecutionTimeTracked {
+
+    /**
+     * Доля замеряемых вызовов от 0 до 1. Отрицательное значение - использовать
+     * {@code aop-starter.execution-time.sample-rate}.
+     */
+    double sampleRate() default -1;
+
+    /**
+     * Порог в миллисекундах, начиная с которого вызов считается медленным и претендует на место
+     * среди самых медленных вызовов окна.
+     * Отрицательное значение - использовать {@code aop-starter.execution-time.slow-calls.threshold}.
+     */
+    long slowThresholdMs() default -1;
 }
@@ -0,0 +1,43 @@
+package ru.tbank.aop.logging.starter.aspect;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.annotation.Batched;
+import ru.tbank.aop.logging.starter.config.AspectOrder;
+import ru.tbank.aop.logging.starter.batching.RequestBatcher;
+import ru.tbank.aop.logging.starter.batching.RequestBatcherRegistry;
+import ru.tbank.aop.logging.starter.exception.BatchedCallTimeoutException;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Aspect
+@Component
+@Order(AspectOrder.BATCHED)
+@RequiredArgsConstructor
+public class BatchedAspect {
+
+    private final RequestBatcherRegistry requestBatcherRegistry;
+
+    @Around("execution(* *(..)) && @annotation(batched)")
+    public Object collapse(ProceedingJoinPoint proceedingJoinPoint, Batched batched) throws Throwable {
+        MethodSignature methodSignature = (MethodSignature) proceedingJoinPoint.getSignature();
+        RequestBatcher batcher = requestBatcherRegistry.getBatcher(proceedingJoinPoint.getThis(),
+                proceedingJoinPoint.getTarget(), methodSignature.getMethod(), batched);
+        try {
+            return batcher.submit(proceedingJoinPoint.getArgs()[0])
+                    .get(batched.windowMs() + batched.timeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() != null ? e.getCause() : e;
+        } catch (TimeoutException e) {
+            throw new BatchedCallTimeoutException(String.format("Пакетный метод %s не вернул результат за %d мс.",
+                    batched.bulkMethod(), batched.windowMs() + batched.timeoutMs()));
+        }
+    }
+}
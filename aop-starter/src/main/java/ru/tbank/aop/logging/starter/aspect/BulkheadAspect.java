@@ -0,0 +1,28 @@
+package ru.tbank.aop.logging.starter.aspect;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.annotation.Bulkhead;
+import ru.tbank.aop.logging.starter.bulkhead.BulkheadRegistry;
+import ru.tbank.aop.logging.starter.config.AspectOrder;
+
+@Aspect
+@Component
+@Order(AspectOrder.BULKHEAD)
+@RequiredArgsConstructor
+public class BulkheadAspect {
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    @Around("execution(* *(..)) && @annotation(bulkhead)")
+    public Object limitConcurrency(ProceedingJoinPoint proceedingJoinPoint, Bulkhead bulkhead) throws Throwable {
+        MethodSignature methodSignature = (MethodSignature) proceedingJoinPoint.getSignature();
+        return bulkheadRegistry.getBulkhead(methodSignature.getMethod(), bulkhead)
+                .execute(proceedingJoinPoint::proceed);
+    }
+}
@@ -0,0 +1,33 @@
+package ru.tbank.aop.logging.starter.aspect;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.annotation.Hedged;
+import ru.tbank.aop.logging.starter.config.AspectOrder;
+import ru.tbank.aop.logging.starter.hedging.HedgedMethodRegistry;
+
+import java.util.concurrent.CompletionStage;
+
+@Aspect
+@Component
+@Order(AspectOrder.HEDGED)
+@RequiredArgsConstructor
+public class HedgedAspect {
+
+    private final HedgedMethodRegistry hedgedMethodRegistry;
+
+    @Around("execution(* *(..)) && @annotation(hedged)")
+    public Object hedge(ProceedingJoinPoint proceedingJoinPoint, Hedged hedged) throws Throwable {
+        MethodSignature methodSignature = (MethodSignature) proceedingJoinPoint.getSignature();
+        if (CompletionStage.class.isAssignableFrom(methodSignature.getReturnType())) {
+            return proceedingJoinPoint.proceed();
+        }
+        return hedgedMethodRegistry.getHedgedMethod(methodSignature.getMethod(), hedged)
+                .execute(proceedingJoinPoint::proceed);
+    }
+}
@@ -0,0 +1,29 @@
+package ru.tbank.aop.logging.starter.aspect;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.annotation.Memoized;
+import ru.tbank.aop.logging.starter.config.AspectOrder;
+import ru.tbank.aop.logging.starter.memoization.MemoizedCache;
+import ru.tbank.aop.logging.starter.memoization.MemoizedCacheRegistry;
+
+@Aspect
+@Component
+@Order(AspectOrder.MEMOIZED)
+@RequiredArgsConstructor
+public class MemoizedAspect {
+
+    private final MemoizedCacheRegistry memoizedCacheRegistry;
+
+    @Around("execution(* *(..)) && @annotation(memoized)")
+    public Object memoize(ProceedingJoinPoint proceedingJoinPoint, Memoized memoized) throws Throwable {
+        MethodSignature methodSignature = (MethodSignature) proceedingJoinPoint.getSignature();
+        MemoizedCache cache = memoizedCacheRegistry.getCache(methodSignature.getMethod(), memoized);
+        return cache.get(proceedingJoinPoint.getArgs(), proceedingJoinPoint::proceed);
+    }
+}
@@ -1,36 +1,26 @@
 package ru.tbank.aop.logging.starter.aspect;
 
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StopWatch;
+import ru.tbank.aop.logging.starter.config.AspectOrder;
 
 @Aspect
 @Component
-@Slf4j
+@Order(AspectOrder.EXECUTION_TIME)
+@ConditionalOnProperty(prefix = "aop-starter.weaving", name = "mode", havingValue = "proxy", matchIfMissing = true)
+@RequiredArgsConstructor
 public class MethodExecutionTimeLoggedAspect {
+
+    private final MethodExecutionTimeTracker methodExecutionTimeTracker;
+
     @Around("execution(* *(..)) && (@within(ru.tbank.aop.logging.starter.annotation.MethodExecutionTimeTracked) " +
             "|| @annotation(ru.tbank.aop.logging.starter.annotation.MethodExecutionTimeTracked))")
     public Object measureMethodsExecutionTime(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
-        MethodSignature methodSignature = (MethodSignature) proceedingJoinPoint.getSignature();
-
-        String className = methodSignature.getDeclaringType().getSimpleName();
-        String methodName = methodSignature.getName();
-
-        final StopWatch stopWatch = new StopWatch();
-
-        stopWatch.start();
-        Object result = proceedingJoinPoint.proceed();
-        stopWatch.stop();
-
-        String logDelimiter = "-".repeat(100);
-        log.info(logDelimiter);
-        log.info("Выполнение метода {}#{} заняло: {} ms.", className, methodName, stopWatch.getTotalTimeMillis());
-        log.info(logDelimiter);
-        return result;
+        return methodExecutionTimeTracker.track(proceedingJoinPoint);
     }
 }
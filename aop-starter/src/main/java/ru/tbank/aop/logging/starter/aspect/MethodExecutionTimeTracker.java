@@ -0,0 +1,122 @@
+package ru.tbank.aop.logging.starter.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.annotation.MethodExecutionTimeTracked;
+import ru.tbank.aop.logging.starter.config.MethodExecutionTimeProperties;
+import ru.tbank.aop.logging.starter.listener.MethodExecutionListener;
+import ru.tbank.aop.logging.starter.metrics.TrackedMethod;
+import ru.tbank.aop.logging.starter.slowcall.SlowCallRecorder;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Логика замера времени выполнения, общая для proxy-аспекта и аспекта, вплетаемого AspectJ-агентом.
+ */
+@Component
+public class MethodExecutionTimeTracker {
+
+    private final MethodExecutionListener[] listeners;
+    private final SlowCallRecorder slowCallRecorder;
+    private final MethodExecutionTimeProperties properties;
+    private final ConcurrentHashMap<Method, TrackedMethod> trackedMethods = new ConcurrentHashMap<>();
+
+    public MethodExecutionTimeTracker(List<MethodExecutionListener> listeners,
+                                      SlowCallRecorder slowCallRecorder,
+                                      MethodExecutionTimeProperties properties) {
+        this.listeners = listeners.toArray(MethodExecutionListener[]::new);
+        this.slowCallRecorder = slowCallRecorder;
+        this.properties = properties;
+    }
+
+    public Object track(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        TrackedMethod trackedMethod = resolveTrackedMethod(proceedingJoinPoint);
+        if (!trackedMethod.isSampled()) {
+            return proceedingJoinPoint.proceed();
+        }
+        Thread thread = Thread.currentThread();
+        for (MethodExecutionListener listener : listeners) {
+            listener.onEnter(trackedMethod);
+        }
+        long startNanos = System.nanoTime();
+        Object result;
+        try {
+            result = proceedingJoinPoint.proceed();
+        } catch (Throwable e) {
+            exit(trackedMethod, e);
+            complete(trackedMethod, proceedingJoinPoint, thread, startNanos, e);
+            throw e;
+        }
+        exit(trackedMethod, null);
+        if (result instanceof CompletionStage<?> completionStage) {
+            completionStage.whenComplete((value, error) ->
+                    complete(trackedMethod, proceedingJoinPoint, thread, startNanos, unwrap(error)));
+        } else {
+            complete(trackedMethod, proceedingJoinPoint, thread, startNanos, null);
+        }
+        return result;
+    }
+
+    private void exit(TrackedMethod trackedMethod, Throwable error) {
+        for (int i = listeners.length - 1; i >= 0; i--) {
+            listeners[i].onExit(trackedMethod, error);
+        }
+    }
+
+    private void complete(TrackedMethod trackedMethod, ProceedingJoinPoint proceedingJoinPoint, Thread thread,
+                          long startNanos, Throwable error) {
+        long durationNanos = System.nanoTime() - startNanos;
+        for (MethodExecutionListener listener : listeners) {
+            listener.onComplete(trackedMethod, durationNanos, error);
+        }
+        if (trackedMethod.isSlow(durationNanos)) {
+            slowCallRecorder.record(trackedMethod, durationNanos, thread, proceedingJoinPoint.getArgs(), error);
+        }
+    }
+
+    private TrackedMethod resolveTrackedMethod(ProceedingJoinPoint proceedingJoinPoint) {
+        Method method = ((MethodSignature) proceedingJoinPoint.getSignature()).getMethod();
+        TrackedMethod trackedMethod = trackedMethods.get(method);
+        if (trackedMethod == null) {
+            Class<?> targetClass = AopUtils.getTargetClass(proceedingJoinPoint.getTarget());
+            trackedMethod = trackedMethods.computeIfAbsent(method, key -> createTrackedMethod(key, targetClass));
+        }
+        return trackedMethod;
+    }
+
+    private TrackedMethod createTrackedMethod(Method method, Class<?> targetClass) {
+        MethodExecutionTimeTracked annotation = AnnotationUtils.findAnnotation(method, MethodExecutionTimeTracked.class);
+        if (annotation == null) {
+            annotation = AnnotationUtils.findAnnotation(targetClass, MethodExecutionTimeTracked.class);
+        }
+        double sampleRate = properties.getSampleRate();
+        long slowThresholdNanos = TrackedMethod.SLOW_THRESHOLD_DISABLED;
+        Duration defaultSlowThreshold = properties.getSlowCalls().getThreshold();
+        if (defaultSlowThreshold != null) {
+            slowThresholdNanos = defaultSlowThreshold.toNanos();
+        }
+        if (annotation != null && annotation.sampleRate() >= 0) {
+            sampleRate = annotation.sampleRate();
+        }
+        if (annotation != null && annotation.slowThresholdMs() >= 0) {
+            slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(annotation.slowThresholdMs());
+        }
+        return new TrackedMethod(method, sampleRate, slowThresholdNanos);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+}
@@ -0,0 +1,34 @@
+package ru.tbank.aop.logging.starter.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Аспект для режима aop-starter.weaving.mode=aspectj. Вплетается AspectJ-агентом (META-INF/aop.xml)
+ * прямо в байткод отмеченных классов, поэтому замеряются и внутренние вызовы (this.method()),
+ * а прокси для таких бинов не создаются. Экземпляр создает AspectJ, трекер привязывается
+ * в {@link ru.tbank.aop.logging.starter.config.AspectJWeavingConfiguration}; до этого вызовы не замеряются.
+ * Как и через прокси, замеряются только public методы: приватные вспомогательные методы и тела лямбд
+ * (синтетические lambda$*) исключены, bridge-методы AspectJ не сопоставляет.
+ */
+@Aspect
+public class WovenMethodExecutionTimeAspect {
+
+    private volatile MethodExecutionTimeTracker methodExecutionTimeTracker;
+
+    @Around("execution(public !static * *(..)) && !execution(* lambda$*(..)) " +
+            "&& (@within(ru.tbank.aop.logging.starter.annotation.MethodExecutionTimeTracked) " +
+            "|| @annotation(ru.tbank.aop.logging.starter.annotation.MethodExecutionTimeTracked))")
+    public Object measureMethodsExecutionTime(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        MethodExecutionTimeTracker tracker = methodExecutionTimeTracker;
+        if (tracker == null) {
+            return proceedingJoinPoint.proceed();
+        }
+        return tracker.track(proceedingJoinPoint);
+    }
+
+    public void setMethodExecutionTimeTracker(MethodExecutionTimeTracker methodExecutionTimeTracker) {
+        this.methodExecutionTimeTracker = methodExecutionTimeTracker;
+    }
+}
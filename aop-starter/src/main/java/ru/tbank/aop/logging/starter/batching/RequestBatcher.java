@@ -0,0 +1,101 @@
+package ru.tbank.aop.logging.starter.batching;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class RequestBatcher {
+
+    private final Object invocationTarget;
+    private final Method bulkMethod;
+    private final int maxBatchSize;
+    private final long windowMs;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+    private Map<Object, CompletableFuture<Object>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledDispatch;
+
+    RequestBatcher(Object invocationTarget, Method bulkMethod, int maxBatchSize, long windowMs,
+                   ScheduledExecutorService scheduler) {
+        this.invocationTarget = invocationTarget;
+        this.bulkMethod = bulkMethod;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.windowMs = Math.max(0, windowMs);
+        this.scheduler = scheduler;
+    }
+
+    public CompletableFuture<Object> submit(Object key) {
+        CompletableFuture<Object> result;
+        Map<Object, CompletableFuture<Object>> fullBatch = null;
+        synchronized (lock) {
+            result = pending.computeIfAbsent(key, k -> new CompletableFuture<>());
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = takePending();
+            } else if (scheduledDispatch == null) {
+                scheduledDispatch = scheduler.schedule(this::dispatchPending, windowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+        return result;
+    }
+
+    private void dispatchPending() {
+        Map<Object, CompletableFuture<Object>> batch;
+        synchronized (lock) {
+            batch = takePending();
+        }
+        dispatch(batch);
+    }
+
+    private Map<Object, CompletableFuture<Object>> takePending() {
+        Map<Object, CompletableFuture<Object>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledDispatch != null) {
+            scheduledDispatch.cancel(false);
+            scheduledDispatch = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(Map<Object, CompletableFuture<Object>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            Map<?, ?> results = (Map<?, ?>) bulkMethod.invoke(invocationTarget, toBulkArgument(batch.keySet()));
+            batch.forEach((key, future) -> future.complete(results == null ? null : results.get(key)));
+        } catch (InvocationTargetException e) {
+            failAll(batch, e.getTargetException());
+        } catch (Throwable e) {
+            failAll(batch, e);
+        }
+    }
+
+    private Collection<Object> toBulkArgument(Set<Object> keys) {
+        if (bulkMethod.getParameterTypes()[0].isAssignableFrom(List.class)) {
+            return new ArrayList<>(keys);
+        }
+        return new LinkedHashSet<>(keys);
+    }
+
+    private void failAll(Map<Object, CompletableFuture<Object>> batch, Throwable error) {
+        log.warn("Пакетный вызов метода {} для {} ключей завершился ошибкой.", bulkMethod.getName(), batch.size(), error);
+        batch.values().forEach(future -> future.completeExceptionally(error));
+    }
+}
@@ -0,0 +1,97 @@
+package ru.tbank.aop.logging.starter.batching;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import ru.tbank.aop.logging.starter.annotation.Batched;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class RequestBatcherRegistry {
+
+    private final ConcurrentHashMap<BatcherKey, RequestBatcher> batchers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public RequestBatcherRegistry() {
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.scheduler = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "batched-dispatcher-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public RequestBatcher getBatcher(Object proxy, Object target, Method method, Batched batched) {
+        BatcherKey key = new BatcherKey(target, method);
+        RequestBatcher batcher = batchers.get(key);
+        if (batcher == null) {
+            batcher = batchers.computeIfAbsent(key, k -> createBatcher(proxy, target, method, batched));
+        }
+        return batcher;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private RequestBatcher createBatcher(Object proxy, Object target, Method method, Batched batched) {
+        if (method.getParameterCount() != 1) {
+            throw new IllegalStateException(String.format("Метод %s#%s, отмеченный @Batched, должен принимать ровно один "
+                    + "параметр-ключ.", method.getDeclaringClass().getSimpleName(), method.getName()));
+        }
+        Class<?> targetClass = ClassUtils.getUserClass(target);
+        Method bulkMethod = findBulkMethod(targetClass, batched.bulkMethod());
+        if (bulkMethod == null) {
+            throw new IllegalStateException(String.format("У класса %s не найден пакетный метод %s(Collection), "
+                    + "возвращающий Map.", targetClass.getSimpleName(), batched.bulkMethod()));
+        }
+        ReflectionUtils.makeAccessible(bulkMethod);
+        Object invocationTarget = isProxyable(bulkMethod) && bulkMethod.getDeclaringClass().isInstance(proxy)
+                ? proxy : target;
+        return new RequestBatcher(invocationTarget, bulkMethod, batched.maxBatchSize(), batched.windowMs(), scheduler);
+    }
+
+    /**
+     * CGLIB-прокси перехватывает только public не final методы, остальные выполнились бы
+     * на самом прокси с неинициализированными полями.
+     */
+    private static boolean isProxyable(Method method) {
+        int modifiers = method.getModifiers();
+        return Modifier.isPublic(modifiers) && !Modifier.isFinal(modifiers) && !Modifier.isStatic(modifiers);
+    }
+
+    private static Method findBulkMethod(Class<?> targetClass, String bulkMethodName) {
+        for (Method candidate : ReflectionUtils.getUniqueDeclaredMethods(targetClass)) {
+            if (candidate.getName().equals(bulkMethodName)
+                    && candidate.getParameterCount() == 1
+                    && Collection.class.isAssignableFrom(candidate.getParameterTypes()[0])
+                    && Map.class.isAssignableFrom(candidate.getReturnType())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private record BatcherKey(Object target, Method method) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof BatcherKey other && target == other.target && method.equals(other.method);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(target) + method.hashCode();
+        }
+    }
+}
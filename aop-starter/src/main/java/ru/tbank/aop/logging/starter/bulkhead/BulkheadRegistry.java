@@ -0,0 +1,31 @@
+package ru.tbank.aop.logging.starter.bulkhead;
+
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.annotation.Bulkhead;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class BulkheadRegistry {
+
+    private final ConcurrentHashMap<Method, MethodBulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public MethodBulkhead getBulkhead(Method method, Bulkhead bulkhead) {
+        MethodBulkhead methodBulkhead = bulkheads.get(method);
+        if (methodBulkhead == null) {
+            methodBulkhead = bulkheads.computeIfAbsent(method, key -> new MethodBulkhead(
+                    key.getDeclaringClass().getSimpleName() + "#" + key.getName(), bulkhead));
+        }
+        return methodBulkhead;
+    }
+
+    public List<BulkheadSnapshot> getSnapshots() {
+        return bulkheads.values().stream()
+                .map(MethodBulkhead::snapshot)
+                .sorted(Comparator.comparing(BulkheadSnapshot::method))
+                .toList();
+    }
+}
@@ -0,0 +1,12 @@
+package ru.tbank.aop.logging.starter.bulkhead;
+
+public record BulkheadSnapshot(
+        String method,
+        int maxConcurrentCalls,
+        int availablePermits,
+        long acceptedCalls,
+        long rejectedCalls,
+        double queueTimeP50Ms,
+        double queueTimeP99Ms,
+        double queueTimeMaxMs) {
+}
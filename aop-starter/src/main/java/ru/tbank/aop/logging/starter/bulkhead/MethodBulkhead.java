@@ -0,0 +1,71 @@
+package ru.tbank.aop.logging.starter.bulkhead;
+
+import lombok.Getter;
+import ru.tbank.aop.logging.starter.annotation.Bulkhead;
+import ru.tbank.aop.logging.starter.exception.BulkheadFullException;
+import ru.tbank.aop.logging.starter.metrics.HistogramSnapshot;
+import ru.tbank.aop.logging.starter.metrics.LatencyHistogram;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class MethodBulkhead {
+
+    @Getter
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final LatencyHistogram queueTimes = new LatencyHistogram();
+    private final LongAdder acceptedCalls = new LongAdder();
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    MethodBulkhead(String name, Bulkhead bulkhead) {
+        this.name = name;
+        this.maxConcurrentCalls = Math.max(1, bulkhead.maxConcurrentCalls());
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, bulkhead.maxWaitMs()));
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+    }
+
+    public Object execute(BulkheadInvocation invocation) throws Throwable {
+        long startNanos = System.nanoTime();
+        boolean acquired = maxWaitNanos == 0
+                ? permits.tryAcquire()
+                : permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        queueTimes.record(System.nanoTime() - startNanos);
+        if (!acquired) {
+            rejectedCalls.increment();
+            throw new BulkheadFullException(String.format("Превышено максимальное количество одновременных вызовов "
+                    + "метода %s (%d).", name, maxConcurrentCalls));
+        }
+        acceptedCalls.increment();
+        try {
+            return invocation.proceed();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public BulkheadSnapshot snapshot() {
+        HistogramSnapshot queueTimesSnapshot = queueTimes.snapshot();
+        return new BulkheadSnapshot(
+                name,
+                maxConcurrentCalls,
+                permits.availablePermits(),
+                acceptedCalls.sum(),
+                rejectedCalls.sum(),
+                toMillis(queueTimesSnapshot.getValueAtPercentile(50.0)),
+                toMillis(queueTimesSnapshot.getValueAtPercentile(99.0)),
+                toMillis(queueTimesSnapshot.getMaxNanos()));
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    @FunctionalInterface
+    public interface BulkheadInvocation {
+        Object proceed() throws Throwable;
+    }
+}
@@ -0,0 +1,56 @@
+package ru.tbank.aop.logging.starter.calltree;
+
+import lombok.Getter;
+import ru.tbank.aop.logging.starter.metrics.TrackedMethod;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class CallTreeNode {
+
+    @Getter
+    private final String name;
+    private final ConcurrentHashMap<TrackedMethod, CallTreeNode> children = new ConcurrentHashMap<>();
+    private final LongAdder count = new LongAdder();
+    private final LongAdder inclusiveNanos = new LongAdder();
+    private final LongAdder exclusiveNanos = new LongAdder();
+
+    CallTreeNode(String name) {
+        this.name = name;
+    }
+
+    CallTreeNode getOrCreateChild(TrackedMethod trackedMethod) {
+        CallTreeNode child = children.get(trackedMethod);
+        if (child == null) {
+            child = children.computeIfAbsent(trackedMethod, method -> new CallTreeNode(method.getName()));
+        }
+        return child;
+    }
+
+    void record(long inclusive, long exclusive) {
+        count.increment();
+        inclusiveNanos.add(inclusive);
+        exclusiveNanos.add(exclusive);
+    }
+
+    void clear() {
+        children.clear();
+    }
+
+    public Collection<CallTreeNode> getChildren() {
+        return children.values();
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getInclusiveNanos() {
+        return inclusiveNanos.sum();
+    }
+
+    public long getExclusiveNanos() {
+        return exclusiveNanos.sum();
+    }
+}
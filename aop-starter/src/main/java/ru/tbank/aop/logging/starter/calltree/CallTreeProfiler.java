@@ -0,0 +1,97 @@
+package ru.tbank.aop.logging.starter.calltree;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.listener.MethodExecutionListener;
+import ru.tbank.aop.logging.starter.metrics.TrackedMethod;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(prefix = "aop-starter.execution-time.call-tree", name = "enabled", havingValue = "true")
+public class CallTreeProfiler implements MethodExecutionListener {
+
+    private final CallTreeNode root = new CallTreeNode("root");
+    private final ThreadLocal<CallStack> callStacks = ThreadLocal.withInitial(CallStack::new);
+
+    @Override
+    public void onEnter(TrackedMethod trackedMethod) {
+        CallStack callStack = callStacks.get();
+        CallTreeNode parent = callStack.depth == 0 ? root : callStack.nodes[callStack.depth - 1];
+        callStack.push(parent.getOrCreateChild(trackedMethod), System.nanoTime());
+    }
+
+    @Override
+    public void onExit(TrackedMethod trackedMethod, Throwable error) {
+        CallStack callStack = callStacks.get();
+        if (callStack.depth == 0) {
+            return;
+        }
+        int frame = --callStack.depth;
+        long inclusiveNanos = System.nanoTime() - callStack.startNanos[frame];
+        long exclusiveNanos = Math.max(0, inclusiveNanos - callStack.childrenNanos[frame]);
+        callStack.nodes[frame].record(inclusiveNanos, exclusiveNanos);
+        callStack.nodes[frame] = null;
+        if (frame > 0) {
+            callStack.childrenNanos[frame - 1] += inclusiveNanos;
+        }
+    }
+
+    public CallTreeNode getRoot() {
+        return root;
+    }
+
+    /**
+     * Выгружает дерево вызовов в collapsed-stack формате (flame graph): одна строка на путь вызова,
+     * значение - собственное время узла в микросекундах.
+     */
+    public String toCollapsedStacks() {
+        StringBuilder collapsedStacks = new StringBuilder();
+        for (CallTreeNode child : sortedChildren(root)) {
+            appendCollapsedStacks(child, child.getName(), collapsedStacks);
+        }
+        return collapsedStacks.toString();
+    }
+
+    public void reset() {
+        root.clear();
+    }
+
+    private void appendCollapsedStacks(CallTreeNode node, String path, StringBuilder collapsedStacks) {
+        long exclusiveMicros = TimeUnit.NANOSECONDS.toMicros(node.getExclusiveNanos());
+        if (exclusiveMicros > 0) {
+            collapsedStacks.append(path).append(' ').append(exclusiveMicros).append('\n');
+        }
+        for (CallTreeNode child : sortedChildren(node)) {
+            appendCollapsedStacks(child, path + ";" + child.getName(), collapsedStacks);
+        }
+    }
+
+    private static List<CallTreeNode> sortedChildren(CallTreeNode node) {
+        return node.getChildren().stream()
+                .sorted(Comparator.comparing(CallTreeNode::getName))
+                .toList();
+    }
+
+    private static class CallStack {
+        private CallTreeNode[] nodes = new CallTreeNode[16];
+        private long[] startNanos = new long[16];
+        private long[] childrenNanos = new long[16];
+        private int depth;
+
+        void push(CallTreeNode node, long start) {
+            if (depth == nodes.length) {
+                nodes = Arrays.copyOf(nodes, depth * 2);
+                startNanos = Arrays.copyOf(startNanos, depth * 2);
+                childrenNanos = Arrays.copyOf(childrenNanos, depth * 2);
+            }
+            nodes[depth] = node;
+            startNanos[depth] = start;
+            childrenNanos[depth] = 0;
+            depth++;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package ru.tbank.aop.logging.starter.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 
 @Configuration
 @EnableAspectJAutoProxy
+@EnableConfigurationProperties(MethodExecutionTimeProperties.class)
 public class AopConfiguration {
 }
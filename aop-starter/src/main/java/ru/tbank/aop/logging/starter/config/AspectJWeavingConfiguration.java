@@ -0,0 +1,42 @@
+package ru.tbank.aop.logging.starter.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.Aspects;
+import org.aspectj.lang.NoAspectBoundException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import ru.tbank.aop.logging.starter.aspect.MethodExecutionTimeTracker;
+import ru.tbank.aop.logging.starter.aspect.WovenMethodExecutionTimeAspect;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "aop-starter.weaving", name = "mode", havingValue = "aspectj")
+@RequiredArgsConstructor
+public class AspectJWeavingConfiguration {
+
+    private final MethodExecutionTimeTracker methodExecutionTimeTracker;
+
+    @PostConstruct
+    public void bindWovenAspect() {
+        wovenAspect().setMethodExecutionTimeTracker(methodExecutionTimeTracker);
+        log.info("Замер времени выполнения методов работает в режиме AspectJ-вплетения. "
+                + "@Memoized, @Batched, @Hedged и @Bulkhead по-прежнему применяются через Spring-прокси.");
+    }
+
+    @PreDestroy
+    public void unbindWovenAspect() {
+        wovenAspect().setMethodExecutionTimeTracker(null);
+    }
+
+    private static WovenMethodExecutionTimeAspect wovenAspect() {
+        try {
+            return Aspects.aspectOf(WovenMethodExecutionTimeAspect.class);
+        } catch (NoAspectBoundException e) {
+            throw new IllegalStateException("Режим aop-starter.weaving.mode=aspectj требует запуска JVM "
+                    + "с -javaagent:aspectjweaver.jar.", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package ru.tbank.aop.logging.starter.config;
+
+import org.springframework.core.Ordered;
+
+public final class AspectOrder {
+
+    public static final int EXECUTION_TIME = 100;
+    public static final int MEMOIZED = 200;
+    public static final int BATCHED = 300;
+    public static final int BULKHEAD = 500;
+
+    /**
+     * Хеджирование - самый внутренний аспект, в том числе внутри аспекта CircuitBreaker из resilience4j
+     * (по умолчанию {@code Ordered.LOWEST_PRECEDENCE - 3}). Поэтому хеджированный вызов занимает одно место
+     * в {@code @Bulkhead} и дает одно событие для circuit breaker, а повторные попытки вызывают метод напрямую.
+     */
+    public static final int HEDGED = Ordered.LOWEST_PRECEDENCE - 1;
+
+    private AspectOrder() {
+    }
+}
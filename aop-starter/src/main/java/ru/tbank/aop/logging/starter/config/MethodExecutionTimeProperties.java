@@ -0,0 +1,45 @@
+package ru.tbank.aop.logging.starter.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "aop-starter.execution-time")
+public class MethodExecutionTimeProperties {
+
+    private double sampleRate = 1.0;
+    private SummaryLog summaryLog = new SummaryLog();
+    private Micrometer micrometer = new Micrometer();
+    private SlowCalls slowCalls = new SlowCalls();
+
+    @Getter
+    @Setter
+    public static class SummaryLog {
+        private boolean enabled = false;
+        private Duration interval = Duration.ofMinutes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Micrometer {
+        private boolean enabled = false;
+        private String metricName = "method.execution.time";
+        private List<Double> percentiles = new ArrayList<>(List.of(0.5, 0.9, 0.99));
+        private List<Duration> slo = new ArrayList<>();
+        private boolean percentileHistogram = false;
+    }
+
+    @Getter
+    @Setter
+    public static class SlowCalls {
+        private int capacity = 50;
+        private Duration threshold;
+        private Duration window = Duration.ofMinutes(5);
+    }
+}
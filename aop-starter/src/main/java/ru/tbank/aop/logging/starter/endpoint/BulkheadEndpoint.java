@@ -0,0 +1,23 @@
+package ru.tbank.aop.logging.starter.endpoint;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.bulkhead.BulkheadRegistry;
+import ru.tbank.aop.logging.starter.bulkhead.BulkheadSnapshot;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "bulkheads")
+@RequiredArgsConstructor
+public class BulkheadEndpoint {
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    @ReadOperation
+    public List<BulkheadSnapshot> bulkheads() {
+        return bulkheadRegistry.getSnapshots();
+    }
+}
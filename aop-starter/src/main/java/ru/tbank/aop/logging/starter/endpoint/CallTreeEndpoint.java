@@ -0,0 +1,28 @@
+package ru.tbank.aop.logging.starter.endpoint;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.calltree.CallTreeProfiler;
+
+@Component
+@Endpoint(id = "calltree")
+@ConditionalOnProperty(prefix = "aop-starter.execution-time.call-tree", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class CallTreeEndpoint {
+
+    private final CallTreeProfiler callTreeProfiler;
+
+    @ReadOperation(produces = "text/plain")
+    public String collapsedStacks() {
+        return callTreeProfiler.toCollapsedStacks();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        callTreeProfiler.reset();
+    }
+}
@@ -0,0 +1,23 @@
+package ru.tbank.aop.logging.starter.endpoint;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.hedging.HedgedMethodRegistry;
+import ru.tbank.aop.logging.starter.hedging.HedgedMethodSnapshot;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "hedged")
+@RequiredArgsConstructor
+public class HedgedEndpoint {
+
+    private final HedgedMethodRegistry hedgedMethodRegistry;
+
+    @ReadOperation
+    public List<HedgedMethodSnapshot> hedgedMethods() {
+        return hedgedMethodRegistry.getSnapshots();
+    }
+}
@@ -0,0 +1,29 @@
+package ru.tbank.aop.logging.starter.endpoint;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.memoization.MemoizedCacheRegistry;
+import ru.tbank.aop.logging.starter.memoization.MemoizedCacheSnapshot;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "memoized")
+@RequiredArgsConstructor
+public class MemoizedEndpoint {
+
+    private final MemoizedCacheRegistry memoizedCacheRegistry;
+
+    @ReadOperation
+    public List<MemoizedCacheSnapshot> memoizedCaches() {
+        return memoizedCacheRegistry.getSnapshots();
+    }
+
+    @DeleteOperation
+    public void invalidateAll() {
+        memoizedCacheRegistry.invalidateAll();
+    }
+}
@@ -0,0 +1,23 @@
+package ru.tbank.aop.logging.starter.endpoint;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.metrics.MethodExecutionTimeRegistry;
+import ru.tbank.aop.logging.starter.metrics.MethodExecutionTimeSnapshot;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "executiontime")
+@RequiredArgsConstructor
+public class MethodExecutionTimeEndpoint {
+
+    private final MethodExecutionTimeRegistry methodExecutionTimeRegistry;
+
+    @ReadOperation
+    public List<MethodExecutionTimeSnapshot> executionTimes() {
+        return methodExecutionTimeRegistry.getSnapshots();
+    }
+}
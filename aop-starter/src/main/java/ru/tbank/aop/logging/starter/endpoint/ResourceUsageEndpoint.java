@@ -0,0 +1,25 @@
+package ru.tbank.aop.logging.starter.endpoint;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.resource.ResourceUsageListener;
+import ru.tbank.aop.logging.starter.resource.ResourceUsageSnapshot;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "resourceusage")
+@ConditionalOnProperty(prefix = "aop-starter.execution-time.resource-usage", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ResourceUsageEndpoint {
+
+    private final ResourceUsageListener resourceUsageListener;
+
+    @ReadOperation
+    public List<ResourceUsageSnapshot> resourceUsage() {
+        return resourceUsageListener.getSnapshots();
+    }
+}
@@ -0,0 +1,23 @@
+package ru.tbank.aop.logging.starter.endpoint;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.slowcall.SlowCall;
+import ru.tbank.aop.logging.starter.slowcall.SlowCallRecorder;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "slowcalls")
+@RequiredArgsConstructor
+public class SlowCallsEndpoint {
+
+    private final SlowCallRecorder slowCallRecorder;
+
+    @ReadOperation
+    public List<SlowCall> slowCalls() {
+        return slowCallRecorder.getSlowestCalls();
+    }
+}
@@ -0,0 +1,8 @@
+package ru.tbank.aop.logging.starter.exception;
+
+public class BatchedCallTimeoutException extends RuntimeException {
+
+    public BatchedCallTimeoutException(String message) {
+        super(message);
+    }
+}
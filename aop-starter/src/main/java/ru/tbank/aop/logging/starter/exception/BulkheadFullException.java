@@ -0,0 +1,8 @@
+package ru.tbank.aop.logging.starter.exception;
+
+public class BulkheadFullException extends RuntimeException {
+
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,206 @@
+package ru.tbank.aop.logging.starter.hedging;
+
+import lombok.Getter;
+import ru.tbank.aop.logging.starter.annotation.Hedged;
+import ru.tbank.aop.logging.starter.metrics.LatencyHistogram;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Все попытки, включая исходную, выполняются в ограниченном пуле, а вызывающий поток только ждет первый
+ * успешный результат, поэтому победившая повторная попытка возвращается сразу, даже если исходная
+ * не реагирует на прерывание. Повторные попытки запускаются по таймеру; если пул занят, попытка пропускается,
+ * а если в пул не попала исходная - метод выполняется в потоке вызывающего без хеджирования.
+ * После появления результата проигравшие попытки отменяются: запланированные снимаются с таймера,
+ * выполняющиеся в пуле прерываются. Поток вызывающего не прерывается.
+ */
+public class HedgedMethod {
+
+    private static final int MIN_SAMPLES = 20;
+    private static final int DELAY_REFRESH_INTERVAL = 64;
+
+    @Getter
+    private final String name;
+    private final boolean adaptiveDelay;
+    private final double delayPercentile;
+    private final int maxAttempts;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService scheduler;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final AtomicLong samples = new AtomicLong();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder hedgedAttempts = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private volatile long delayNanos;
+
+    HedgedMethod(String name, Hedged hedged, ExecutorService executor, ScheduledExecutorService scheduler) {
+        this.name = name;
+        this.adaptiveDelay = hedged.delayMs() < 0;
+        this.delayPercentile = hedged.delayPercentile();
+        this.maxAttempts = Math.max(1, hedged.maxAttempts());
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.delayNanos = TimeUnit.MILLISECONDS.toNanos(adaptiveDelay ? hedged.initialDelayMs() : hedged.delayMs());
+    }
+
+    public Object execute(HedgedInvocation invocation) throws Throwable {
+        calls.increment();
+        if (maxAttempts == 1) {
+            return invocation.proceed();
+        }
+        HedgedCall call = new HedgedCall(invocation);
+        if (!call.start(0)) {
+            return invocation.proceed();
+        }
+        long delay = delayNanos;
+        for (int attempt = 1; attempt < maxAttempts; attempt++) {
+            int hedgeAttempt = attempt;
+            call.schedule(hedgeAttempt, scheduler.schedule(() -> call.start(hedgeAttempt),
+                    delay * attempt, TimeUnit.NANOSECONDS));
+        }
+        try {
+            return call.winner.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() != null ? e.getCause() : e;
+        } catch (InterruptedException e) {
+            call.cancelLosers(-1);
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    public HedgedMethodSnapshot snapshot() {
+        return new HedgedMethodSnapshot(
+                name,
+                calls.sum(),
+                hedgedAttempts.sum(),
+                hedgeWins.sum(),
+                delayNanos / 1_000_000.0);
+    }
+
+    private void recordLatency(long durationNanos) {
+        if (!adaptiveDelay) {
+            return;
+        }
+        latencies.record(durationNanos);
+        long sampleCount = samples.incrementAndGet();
+        if (sampleCount >= MIN_SAMPLES && sampleCount % DELAY_REFRESH_INTERVAL == 0) {
+            delayNanos = Math.max(1, latencies.snapshot().getValueAtPercentile(delayPercentile));
+        }
+    }
+
+    /**
+     * Состояние одного вызова. Все переходы выполняются под монитором объекта: победитель фиксируется
+     * до уменьшения счетчика выполняющихся попыток, поэтому неудача параллельной попытки не может
+     * завершить вызов ошибкой, когда другая попытка уже успешна.
+     */
+    private class HedgedCall {
+        private final CompletableFuture<Object> winner = new CompletableFuture<>();
+        private final HedgedInvocation invocation;
+        private final Future<?>[] scheduledHedges = new Future<?>[maxAttempts];
+        private final Future<?>[] runningAttempts = new Future<?>[maxAttempts];
+        private int inFlight;
+        private Throwable lastFailure;
+
+        HedgedCall(HedgedInvocation invocation) {
+            this.invocation = invocation;
+        }
+
+        synchronized void schedule(int attempt, Future<?> scheduledHedge) {
+            scheduledHedges[attempt] = scheduledHedge;
+        }
+
+        /**
+         * Отправляет попытку в пул. Возвращает false, если пул занят.
+         */
+        boolean start(int attempt) {
+            synchronized (this) {
+                if (winner.isDone()) {
+                    return true;
+                }
+                inFlight++;
+            }
+            try {
+                Future<?> runningAttempt = executor.submit(() -> run(attempt));
+                if (attempt > 0) {
+                    hedgedAttempts.increment();
+                }
+                synchronized (this) {
+                    runningAttempts[attempt] = runningAttempt;
+                    if (winner.isDone()) {
+                        runningAttempt.cancel(true);
+                    }
+                }
+                return true;
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    inFlight--;
+                    completeIfExhausted();
+                }
+                return false;
+            }
+        }
+
+        private void run(int attempt) {
+            long startNanos = System.nanoTime();
+            try {
+                Object result = invocation.proceed();
+                recordLatency(System.nanoTime() - startNanos);
+                succeed(attempt, result);
+            } catch (Throwable e) {
+                fail(e);
+            }
+        }
+
+        private synchronized void succeed(int attempt, Object result) {
+            if (winner.complete(result)) {
+                if (attempt > 0) {
+                    hedgeWins.increment();
+                }
+                cancelLosers(attempt);
+            }
+            inFlight--;
+        }
+
+        private synchronized void fail(Throwable failure) {
+            lastFailure = failure;
+            inFlight--;
+            completeIfExhausted();
+        }
+
+        /**
+         * Ошибка возвращается, только когда все запущенные попытки завершились неудачно.
+         */
+        private void completeIfExhausted() {
+            if (inFlight == 0 && lastFailure != null && winner.completeExceptionally(lastFailure)) {
+                cancelLosers(-1);
+            }
+        }
+
+        synchronized void cancelLosers(int winnerAttempt) {
+            for (int attempt = 0; attempt < maxAttempts; attempt++) {
+                Future<?> scheduledHedge = scheduledHedges[attempt];
+                if (scheduledHedge != null) {
+                    scheduledHedge.cancel(false);
+                }
+                Future<?> runningAttempt = runningAttempts[attempt];
+                if (attempt != winnerAttempt && runningAttempt != null) {
+                    runningAttempt.cancel(true);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface HedgedInvocation {
+        Object proceed() throws Throwable;
+    }
+}
@@ -0,0 +1,68 @@
+package ru.tbank.aop.logging.starter.hedging;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.annotation.Hedged;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Попытки выполняются в пуле из не более чем {@link #MAX_HEDGE_THREADS} потоков без очереди:
+ * когда пул занят, повторная попытка не запускается, а исходная выполняется в потоке вызывающего.
+ */
+@Component
+public class HedgedMethodRegistry {
+
+    static final int MAX_HEDGE_THREADS = 32;
+
+    private final ConcurrentHashMap<Method, HedgedMethod> hedgedMethods = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    public HedgedMethodRegistry() {
+        this.executor = new ThreadPoolExecutor(0, MAX_HEDGE_THREADS, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), daemonThreadFactory("hedged-attempt-"));
+        this.scheduler = new ScheduledThreadPoolExecutor(1, daemonThreadFactory("hedged-timer-"));
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    public HedgedMethod getHedgedMethod(Method method, Hedged hedged) {
+        HedgedMethod hedgedMethod = hedgedMethods.get(method);
+        if (hedgedMethod == null) {
+            hedgedMethod = hedgedMethods.computeIfAbsent(method, key -> new HedgedMethod(
+                    key.getDeclaringClass().getSimpleName() + "#" + key.getName(), hedged, executor, scheduler));
+        }
+        return hedgedMethod;
+    }
+
+    public List<HedgedMethodSnapshot> getSnapshots() {
+        return hedgedMethods.values().stream()
+                .map(HedgedMethod::snapshot)
+                .sorted(Comparator.comparing(HedgedMethodSnapshot::method))
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        executor.shutdown();
+    }
+
+    private static ThreadFactory daemonThreadFactory(String namePrefix) {
+        AtomicInteger threadCounter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package ru.tbank.aop.logging.starter.hedging;
+
+public record HedgedMethodSnapshot(
+        String method,
+        long calls,
+        long hedgedAttempts,
+        long hedgeWins,
+        double currentDelayMs) {
+}
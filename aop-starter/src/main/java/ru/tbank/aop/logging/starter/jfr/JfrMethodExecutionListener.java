@@ -0,0 +1,71 @@
+package ru.tbank.aop.logging.starter.jfr;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.listener.MethodExecutionListener;
+import ru.tbank.aop.logging.starter.metrics.TrackedMethod;
+
+import java.util.Arrays;
+
+@Component
+@ConditionalOnProperty(prefix = "aop-starter.execution-time.jfr", name = "enabled", havingValue = "true")
+public class JfrMethodExecutionListener implements MethodExecutionListener {
+
+    private static final String SUCCESS_OUTCOME = "success";
+
+    private final EventType eventType;
+    private final ThreadLocal<EventStack> eventStacks = ThreadLocal.withInitial(EventStack::new);
+
+    public JfrMethodExecutionListener() {
+        FlightRecorder.register(TrackedMethodExecutionEvent.class);
+        this.eventType = EventType.getEventType(TrackedMethodExecutionEvent.class);
+    }
+
+    @Override
+    public void onEnter(TrackedMethod trackedMethod) {
+        TrackedMethodExecutionEvent event = null;
+        if (eventType.isEnabled()) {
+            event = new TrackedMethodExecutionEvent();
+            event.begin();
+        }
+        eventStacks.get().push(event);
+    }
+
+    @Override
+    public void onExit(TrackedMethod trackedMethod, Throwable error) {
+        TrackedMethodExecutionEvent event = eventStacks.get().pop();
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.className = trackedMethod.getClassName();
+            event.methodName = trackedMethod.getMethodName();
+            event.outcome = error == null ? SUCCESS_OUTCOME : error.getClass().getSimpleName();
+            event.commit();
+        }
+    }
+
+    private static class EventStack {
+        private TrackedMethodExecutionEvent[] events = new TrackedMethodExecutionEvent[16];
+        private int depth;
+
+        void push(TrackedMethodExecutionEvent event) {
+            if (depth == events.length) {
+                events = Arrays.copyOf(events, depth * 2);
+            }
+            events[depth++] = event;
+        }
+
+        TrackedMethodExecutionEvent pop() {
+            if (depth == 0) {
+                return null;
+            }
+            TrackedMethodExecutionEvent event = events[--depth];
+            events[depth] = null;
+            return event;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package ru.tbank.aop.logging.starter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(TrackedMethodExecutionEvent.NAME)
+@Label("Tracked Method Execution")
+@Description("Выполнение метода, отмеченного @MethodExecutionTimeTracked")
+@Category({"T-Bank", "AOP"})
+@StackTrace(false)
+public class TrackedMethodExecutionEvent extends Event {
+
+    public static final String NAME = "ru.tbank.aop.TrackedMethodExecution";
+
+    @Label("Class")
+    String className;
+
+    @Label("Method")
+    String methodName;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,30 @@
+package ru.tbank.aop.logging.starter.listener;
+
+import ru.tbank.aop.logging.starter.metrics.TrackedMethod;
+
+public interface MethodExecutionListener {
+
+    /**
+     * Вызывается в потоке вызова непосредственно перед выполнением метода.
+     */
+    default void onEnter(TrackedMethod trackedMethod) {
+    }
+
+    /**
+     * Вызывается в том же потоке, что и {@link #onEnter}, сразу после возврата из метода
+     * (для асинхронных методов - после возврата {@link java.util.concurrent.CompletionStage}).
+     *
+     * @param error исключение, выброшенное методом, или {@code null}, если метод вернул управление без исключения
+     */
+    default void onExit(TrackedMethod trackedMethod, Throwable error) {
+    }
+
+    /**
+     * Вызывается по завершении метода. Для методов, возвращающих {@link java.util.concurrent.CompletionStage},
+     * вызывается при завершении результата и, возможно, в другом потоке.
+     *
+     * @param error исключение, с которым завершился метод, или {@code null} при успешном выполнении
+     */
+    default void onComplete(TrackedMethod trackedMethod, long durationNanos, Throwable error) {
+    }
+}
@@ -0,0 +1,81 @@
+package ru.tbank.aop.logging.starter.listener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.config.MethodExecutionTimeProperties;
+import ru.tbank.aop.logging.starter.metrics.TrackedMethod;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(prefix = "aop-starter.execution-time.micrometer", name = "enabled", havingValue = "true")
+public class MicrometerMethodExecutionListener implements MethodExecutionListener {
+
+    private static final String SUCCESS_OUTCOME = "success";
+
+    private final MeterRegistry meterRegistry;
+    private final String metricName;
+    private final double[] percentiles;
+    private final Duration[] serviceLevelObjectives;
+    private final boolean percentileHistogram;
+    private final ConcurrentHashMap<TrackedMethod, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    public MicrometerMethodExecutionListener(MeterRegistry meterRegistry, MethodExecutionTimeProperties properties) {
+        MethodExecutionTimeProperties.Micrometer micrometer = properties.getMicrometer();
+        this.meterRegistry = meterRegistry;
+        this.metricName = micrometer.getMetricName();
+        this.percentiles = micrometer.getPercentiles().stream()
+                .mapToDouble(Double::doubleValue)
+                .toArray();
+        this.serviceLevelObjectives = micrometer.getSlo().toArray(Duration[]::new);
+        this.percentileHistogram = micrometer.isPercentileHistogram();
+    }
+
+    @Override
+    public void onComplete(TrackedMethod trackedMethod, long durationNanos, Throwable error) {
+        MethodTimers methodTimers = timers.get(trackedMethod);
+        if (methodTimers == null) {
+            methodTimers = timers.computeIfAbsent(trackedMethod, MethodTimers::new);
+        }
+        methodTimers.getTimer(error).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer registerTimer(TrackedMethod trackedMethod, String outcome) {
+        return Timer.builder(metricName)
+                .description("Время выполнения метода, отмеченного @MethodExecutionTimeTracked")
+                .tag("class", trackedMethod.getClassName())
+                .tag("method", trackedMethod.getMethodName())
+                .tag("outcome", outcome)
+                .publishPercentiles(percentiles)
+                .publishPercentileHistogram(percentileHistogram)
+                .serviceLevelObjectives(serviceLevelObjectives)
+                .register(meterRegistry);
+    }
+
+    private class MethodTimers {
+        private final TrackedMethod trackedMethod;
+        private final Timer successTimer;
+        private final ConcurrentHashMap<Class<?>, Timer> failureTimers = new ConcurrentHashMap<>();
+
+        MethodTimers(TrackedMethod trackedMethod) {
+            this.trackedMethod = trackedMethod;
+            this.successTimer = registerTimer(trackedMethod, SUCCESS_OUTCOME);
+        }
+
+        Timer getTimer(Throwable error) {
+            if (error == null) {
+                return successTimer;
+            }
+            Timer failureTimer = failureTimers.get(error.getClass());
+            if (failureTimer == null) {
+                failureTimer = failureTimers.computeIfAbsent(error.getClass(),
+                        errorClass -> registerTimer(trackedMethod, errorClass.getSimpleName()));
+            }
+            return failureTimer;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package ru.tbank.aop.logging.starter.logging;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.config.MethodExecutionTimeProperties;
+import ru.tbank.aop.logging.starter.metrics.MethodExecutionTimeRegistry;
+import ru.tbank.aop.logging.starter.metrics.MethodExecutionTimeSnapshot;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(prefix = "aop-starter.execution-time.summary-log", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class MethodExecutionTimeSummaryLogger {
+
+    private final MethodExecutionTimeRegistry methodExecutionTimeRegistry;
+    private final MethodExecutionTimeProperties properties;
+
+    private final Map<String, Long> lastLoggedCounts = new HashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void start() {
+        long intervalMillis = properties.getSummaryLog().getInterval().toMillis();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "execution-time-summary-logger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Периодический вывод статистики времени выполнения методов включен. Интервал: {} ms.", intervalMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+        flush();
+    }
+
+    synchronized void flush() {
+        try {
+            List<MethodExecutionTimeSnapshot> snapshots = methodExecutionTimeRegistry.getSnapshots();
+            for (MethodExecutionTimeSnapshot snapshot : snapshots) {
+                Long lastCount = lastLoggedCounts.put(snapshot.method(), snapshot.count());
+                if (lastCount != null && lastCount == snapshot.count()) {
+                    continue;
+                }
+                log.info("Метод {}: вызовов {}, mean {} ms, p50 {} ms, p90 {} ms, p99 {} ms, max {} ms.",
+                        snapshot.method(), snapshot.count(), snapshot.meanMs(), snapshot.p50Ms(), snapshot.p90Ms(),
+                        snapshot.p99Ms(), snapshot.maxMs());
+            }
+        } catch (Exception e) {
+            log.warn("В процессе вывода статистики времени выполнения методов произошла ошибка.", e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package ru.tbank.aop.logging.starter.memoization;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import ru.tbank.aop.logging.starter.annotation.Memoized;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Конкурентные вызовы с одним ключом ждут единственное вычисление. Повторный вызов с тем же ключом
+ * из вычисляющего потока (рекурсия) выполняется напрямую, а ожидание чужого вычисления ограничено
+ * {@link Memoized#waitTimeoutMs()}, после чего метод вызывается без кэша.
+ */
+public class MemoizedCache {
+
+    private static final Object NO_ARGUMENTS_KEY = new Object();
+    private static final Object NULL_KEY = new Object();
+
+    @Getter
+    private final String name;
+    private final int[] keyParameters;
+    private final long waitTimeoutNanos;
+    private final Cache<Object, CompletableFuture<Object>> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    MemoizedCache(Method method, Memoized memoized) {
+        this.name = method.getDeclaringClass().getSimpleName() + "#" + method.getName()
+                + Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(", ", "(", ")"));
+        this.keyParameters = memoized.keyParameters().length == 0
+                ? allParameters(method.getParameterCount())
+                : memoized.keyParameters();
+        for (int keyParameter : keyParameters) {
+            if (keyParameter < 0 || keyParameter >= method.getParameterCount()) {
+                throw new IllegalArgumentException(String.format("Индекс параметра %d в @Memoized метода %s выходит "
+                        + "за границы списка параметров.", keyParameter, name));
+            }
+        }
+        this.waitTimeoutNanos = memoized.waitTimeoutMs() < 0
+                ? -1
+                : TimeUnit.MILLISECONDS.toNanos(memoized.waitTimeoutMs());
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(memoized.maximumSize())
+                .recordStats();
+        if (memoized.ttl() >= 0) {
+            builder.expireAfterWrite(memoized.ttl(), memoized.ttlUnit());
+        }
+        this.cache = builder.build();
+    }
+
+    public Object get(Object[] args, MemoizedInvocation invocation) throws Throwable {
+        Object key = buildKey(args);
+        CompletableFuture<Object> result = cache.getIfPresent(key);
+        if (result == null) {
+            Computation computation = new Computation();
+            result = cache.asMap().putIfAbsent(key, computation);
+            if (result == null) {
+                misses.increment();
+                return compute(key, computation, invocation);
+            }
+        }
+        if (!result.isDone() && result instanceof Computation pending && pending.owner == Thread.currentThread()) {
+            misses.increment();
+            return invocation.proceed();
+        }
+        return await(result, invocation);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public MemoizedCacheSnapshot snapshot() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requestCount = hitCount + missCount;
+        return new MemoizedCacheSnapshot(
+                name,
+                hitCount,
+                missCount,
+                requestCount == 0 ? 0.0 : Math.round(10_000.0 * hitCount / requestCount) / 10_000.0,
+                cache.estimatedSize(),
+                cache.stats().evictionCount());
+    }
+
+    private Object compute(Object key, CompletableFuture<Object> computation, MemoizedInvocation invocation)
+            throws Throwable {
+        try {
+            Object value = invocation.proceed();
+            computation.complete(value);
+            return value;
+        } catch (Throwable e) {
+            cache.asMap().remove(key, computation);
+            computation.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Object buildKey(Object[] args) {
+        if (keyParameters.length == 0) {
+            return NO_ARGUMENTS_KEY;
+        }
+        if (keyParameters.length == 1) {
+            Object arg = args[keyParameters[0]];
+            return arg == null ? NULL_KEY : arg;
+        }
+        Object[] keyParts = new Object[keyParameters.length];
+        for (int i = 0; i < keyParameters.length; i++) {
+            keyParts[i] = args[keyParameters[i]];
+        }
+        return Arrays.asList(keyParts);
+    }
+
+    private Object await(CompletableFuture<Object> result, MemoizedInvocation invocation) throws Throwable {
+        Object value;
+        try {
+            value = waitTimeoutNanos < 0 ? result.get() : result.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            hits.increment();
+            throw e.getCause() != null ? e.getCause() : e;
+        } catch (TimeoutException e) {
+            misses.increment();
+            return invocation.proceed();
+        }
+        hits.increment();
+        return value;
+    }
+
+    private static int[] allParameters(int parameterCount) {
+        int[] parameters = new int[parameterCount];
+        for (int i = 0; i < parameterCount; i++) {
+            parameters[i] = i;
+        }
+        return parameters;
+    }
+
+    private static class Computation extends CompletableFuture<Object> {
+        private final Thread owner = Thread.currentThread();
+    }
+
+    @FunctionalInterface
+    public interface MemoizedInvocation {
+        Object proceed() throws Throwable;
+    }
+}
@@ -0,0 +1,34 @@
+package ru.tbank.aop.logging.starter.memoization;
+
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.annotation.Memoized;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class MemoizedCacheRegistry {
+
+    private final ConcurrentHashMap<Method, MemoizedCache> caches = new ConcurrentHashMap<>();
+
+    public MemoizedCache getCache(Method method, Memoized memoized) {
+        MemoizedCache cache = caches.get(method);
+        if (cache == null) {
+            cache = caches.computeIfAbsent(method, key -> new MemoizedCache(key, memoized));
+        }
+        return cache;
+    }
+
+    public void invalidateAll() {
+        caches.values().forEach(MemoizedCache::invalidateAll);
+    }
+
+    public List<MemoizedCacheSnapshot> getSnapshots() {
+        return caches.values().stream()
+                .map(MemoizedCache::snapshot)
+                .sorted(Comparator.comparing(MemoizedCacheSnapshot::method))
+                .toList();
+    }
+}
@@ -0,0 +1,10 @@
+package ru.tbank.aop.logging.starter.memoization;
+
+public record MemoizedCacheSnapshot(
+        String method,
+        long hits,
+        long misses,
+        double hitRate,
+        long size,
+        long evictions) {
+}
@@ -0,0 +1,39 @@
+package ru.tbank.aop.logging.starter.metrics;
+
+import lombok.Getter;
+
+@Getter
+public class HistogramSnapshot {
+
+    private final long[] bucketCounts;
+    private final long totalCount;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    HistogramSnapshot(long[] bucketCounts, long totalCount, long totalNanos, long maxNanos) {
+        this.bucketCounts = bucketCounts;
+        this.totalCount = totalCount;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double boundedPercentile = Math.min(Math.max(percentile, 0.0), 100.0);
+        long targetRank = Math.max(1, (long) Math.ceil(boundedPercentile / 100.0 * totalCount));
+        long cumulativeCount = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            cumulativeCount += bucketCounts[i];
+            if (cumulativeCount >= targetRank) {
+                return Math.min(LatencyHistogram.highestEquivalentValue(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    public long getMeanNanos() {
+        return totalCount == 0 ? 0 : totalNanos / totalCount;
+    }
+}
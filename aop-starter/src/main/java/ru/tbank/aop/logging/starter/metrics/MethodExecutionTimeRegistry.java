@@ -0,0 +1,34 @@
+package ru.tbank.aop.logging.starter.metrics;
+
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.listener.MethodExecutionListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class MethodExecutionTimeRegistry implements MethodExecutionListener {
+
+    private final ConcurrentHashMap<TrackedMethod, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public void onComplete(TrackedMethod trackedMethod, long durationNanos, Throwable error) {
+        record(trackedMethod, durationNanos);
+    }
+
+    public void record(TrackedMethod trackedMethod, long durationNanos) {
+        LatencyHistogram histogram = histograms.get(trackedMethod);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(trackedMethod, method -> new LatencyHistogram());
+        }
+        histogram.record(durationNanos);
+    }
+
+    public List<MethodExecutionTimeSnapshot> getSnapshots() {
+        return histograms.entrySet().stream()
+                .map(entry -> MethodExecutionTimeSnapshot.of(entry.getKey().getName(), entry.getValue().snapshot()))
+                .sorted(Comparator.comparing(MethodExecutionTimeSnapshot::method))
+                .toList();
+    }
+}
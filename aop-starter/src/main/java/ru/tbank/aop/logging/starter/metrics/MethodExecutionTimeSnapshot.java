@@ -0,0 +1,26 @@
+package ru.tbank.aop.logging.starter.metrics;
+
+public record MethodExecutionTimeSnapshot(
+        String method,
+        long count,
+        double meanMs,
+        double p50Ms,
+        double p90Ms,
+        double p99Ms,
+        double maxMs) {
+
+    public static MethodExecutionTimeSnapshot of(String method, HistogramSnapshot histogram) {
+        return new MethodExecutionTimeSnapshot(
+                method,
+                histogram.getTotalCount(),
+                toMillis(histogram.getMeanNanos()),
+                toMillis(histogram.getValueAtPercentile(50.0)),
+                toMillis(histogram.getValueAtPercentile(90.0)),
+                toMillis(histogram.getValueAtPercentile(99.0)),
+                toMillis(histogram.getMaxNanos()));
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
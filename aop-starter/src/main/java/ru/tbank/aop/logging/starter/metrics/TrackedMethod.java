@@ -0,0 +1,44 @@
+package ru.tbank.aop.logging.starter.metrics;
+
+import lombok.Getter;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Getter
+public class TrackedMethod {
+
+    public static final long SLOW_THRESHOLD_DISABLED = -1;
+
+    private final Method method;
+    private final String className;
+    private final String methodName;
+    private final String name;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public TrackedMethod(Method method, double sampleRate, long slowThresholdNanos) {
+        this.method = method;
+        this.className = method.getDeclaringClass().getSimpleName();
+        this.methodName = method.getName();
+        this.name = className + "#" + methodName;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThresholdNanos;
+    }
+
+    public boolean isSampled() {
+        if (sampleRate >= 1.0) {
+            return true;
+        }
+        return sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    public boolean isSlow(long durationNanos) {
+        return slowThresholdNanos != SLOW_THRESHOLD_DISABLED && durationNanos >= slowThresholdNanos;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,148 @@
+package ru.tbank.aop.logging.starter.resource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.listener.MethodExecutionListener;
+import ru.tbank.aop.logging.starter.metrics.TrackedMethod;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+@ConditionalOnProperty(prefix = "aop-starter.execution-time.resource-usage", name = "enabled", havingValue = "true")
+@Slf4j
+public class ResourceUsageListener implements MethodExecutionListener {
+
+    private static final long UNSUPPORTED = -1;
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final com.sun.management.ThreadMXBean allocationMXBean;
+    private final boolean cpuTimeSupported;
+    private final boolean allocationSupported;
+    private final ConcurrentHashMap<TrackedMethod, ResourceUsage> usages = new ConcurrentHashMap<>();
+    private final ThreadLocal<UsageStack> usageStacks = ThreadLocal.withInitial(UsageStack::new);
+
+    public ResourceUsageListener() {
+        cpuTimeSupported = threadMXBean.isThreadCpuTimeSupported();
+        if (cpuTimeSupported && !threadMXBean.isThreadCpuTimeEnabled()) {
+            threadMXBean.setThreadCpuTimeEnabled(true);
+        }
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean sunThreadMXBean
+                && sunThreadMXBean.isThreadAllocatedMemorySupported()) {
+            if (!sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+                sunThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            allocationMXBean = sunThreadMXBean;
+            allocationSupported = true;
+        } else {
+            allocationMXBean = null;
+            allocationSupported = false;
+        }
+        if (!cpuTimeSupported || !allocationSupported) {
+            log.warn("JVM не поддерживает замер процессорного времени ({}) или объема выделенной памяти ({}) потока.",
+                    cpuTimeSupported, allocationSupported);
+        }
+    }
+
+    @Override
+    public void onEnter(TrackedMethod trackedMethod) {
+        usageStacks.get().push(System.nanoTime(), currentThreadCpuTime(), currentThreadAllocatedBytes());
+    }
+
+    @Override
+    public void onExit(TrackedMethod trackedMethod, Throwable error) {
+        UsageStack usageStack = usageStacks.get();
+        if (usageStack.depth == 0) {
+            return;
+        }
+        int frame = --usageStack.depth;
+        long wallNanos = System.nanoTime() - usageStack.wallNanos[frame];
+        long cpuNanos = delta(currentThreadCpuTime(), usageStack.cpuNanos[frame]);
+        long allocatedBytes = delta(currentThreadAllocatedBytes(), usageStack.allocatedBytes[frame]);
+        ResourceUsage usage = usages.get(trackedMethod);
+        if (usage == null) {
+            usage = usages.computeIfAbsent(trackedMethod, method -> new ResourceUsage());
+        }
+        usage.record(wallNanos, cpuNanos, allocatedBytes);
+    }
+
+    public List<ResourceUsageSnapshot> getSnapshots() {
+        return usages.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey().getName()))
+                .sorted(Comparator.comparingLong(ResourceUsageSnapshot::totalAllocatedBytes).reversed())
+                .toList();
+    }
+
+    private long currentThreadCpuTime() {
+        return cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : UNSUPPORTED;
+    }
+
+    private long currentThreadAllocatedBytes() {
+        return allocationSupported ? allocationMXBean.getCurrentThreadAllocatedBytes() : UNSUPPORTED;
+    }
+
+    private static long delta(long end, long start) {
+        if (end == UNSUPPORTED || start == UNSUPPORTED) {
+            return 0;
+        }
+        return Math.max(0, end - start);
+    }
+
+    private static class ResourceUsage {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder wallNanos = new LongAdder();
+        private final LongAdder cpuNanos = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        void record(long wall, long cpu, long allocated) {
+            count.increment();
+            wallNanos.add(wall);
+            cpuNanos.add(cpu);
+            allocatedBytes.add(allocated);
+        }
+
+        ResourceUsageSnapshot snapshot(String method) {
+            long totalCount = Math.max(1, count.sum());
+            long totalWallNanos = wallNanos.sum();
+            long totalCpuNanos = cpuNanos.sum();
+            long totalAllocatedBytes = allocatedBytes.sum();
+            return new ResourceUsageSnapshot(
+                    method,
+                    count.sum(),
+                    toMillis(totalWallNanos / totalCount),
+                    toMillis(totalCpuNanos / totalCount),
+                    totalWallNanos == 0 ? 0 : Math.round(100.0 * totalCpuNanos / totalWallNanos) / 100.0,
+                    totalAllocatedBytes / totalCount,
+                    totalAllocatedBytes);
+        }
+
+        private static double toMillis(long nanos) {
+            return Math.round(nanos / 1_000.0) / 1_000.0;
+        }
+    }
+
+    private static class UsageStack {
+        private long[] wallNanos = new long[16];
+        private long[] cpuNanos = new long[16];
+        private long[] allocatedBytes = new long[16];
+        private int depth;
+
+        void push(long wall, long cpu, long allocated) {
+            if (depth == wallNanos.length) {
+                wallNanos = Arrays.copyOf(wallNanos, depth * 2);
+                cpuNanos = Arrays.copyOf(cpuNanos, depth * 2);
+                allocatedBytes = Arrays.copyOf(allocatedBytes, depth * 2);
+            }
+            wallNanos[depth] = wall;
+            cpuNanos[depth] = cpu;
+            allocatedBytes[depth] = allocated;
+            depth++;
+        }
+    }
+}
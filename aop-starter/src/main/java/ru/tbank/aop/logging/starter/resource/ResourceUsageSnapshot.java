@@ -0,0 +1,11 @@
+package ru.tbank.aop.logging.starter.resource;
+
+public record ResourceUsageSnapshot(
+        String method,
+        long count,
+        double meanWallMs,
+        double meanCpuMs,
+        double cpuToWallRatio,
+        long meanAllocatedBytes,
+        long totalAllocatedBytes) {
+}
@@ -0,0 +1,12 @@
+package ru.tbank.aop.logging.starter.slowcall;
+
+import java.time.Instant;
+
+public record SlowCall(
+        String method,
+        double durationMs,
+        String thread,
+        Instant startedAt,
+        String arguments,
+        String error) {
+}
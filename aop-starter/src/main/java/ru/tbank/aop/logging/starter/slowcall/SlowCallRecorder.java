@@ -0,0 +1,127 @@
+package ru.tbank.aop.logging.starter.slowcall;
+
+import org.springframework.stereotype.Component;
+import ru.tbank.aop.logging.starter.config.MethodExecutionTimeProperties;
+import ru.tbank.aop.logging.starter.metrics.TrackedMethod;
+
+import java.lang.reflect.Array;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Хранит N самых медленных вызовов, превысивших порог, за последнее окно. Вызовы текущего окна лежат
+ * в ограниченной min-куче по длительности, поэтому поток пограничных вызовов вытесняет только самые быстрые
+ * из накопленных, а не настоящие выбросы. Окна сменяются раз в {@code slow-calls.window}; отдаются вызовы
+ * текущего и предыдущего окна, чтобы сразу после смены окна буфер не пустел. Вызов не быстрее самого
+ * быстрого из заполненной кучи отбрасывается без блокировки и без разбора аргументов.
+ */
+@Component
+public class SlowCallRecorder {
+
+    private static final int MAX_ARGUMENT_LENGTH = 100;
+    private static final Comparator<Candidate> BY_DURATION = Comparator.comparingLong(Candidate::durationNanos);
+
+    private final int capacity;
+    private final long windowMillis;
+    private final PriorityQueue<Candidate> currentWindow;
+    private List<Candidate> previousWindow = List.of();
+    private volatile long windowEndMillis;
+    private volatile long admissionFloorNanos = -1;
+
+    public SlowCallRecorder(MethodExecutionTimeProperties properties) {
+        this.capacity = Math.max(1, properties.getSlowCalls().getCapacity());
+        this.windowMillis = Math.max(1, properties.getSlowCalls().getWindow().toMillis());
+        this.currentWindow = new PriorityQueue<>(capacity, BY_DURATION);
+        this.windowEndMillis = System.currentTimeMillis() + windowMillis;
+    }
+
+    public void record(TrackedMethod trackedMethod, long durationNanos, Thread thread, Object[] args, Throwable error) {
+        long nowMillis = System.currentTimeMillis();
+        if (durationNanos <= admissionFloorNanos && nowMillis < windowEndMillis) {
+            return;
+        }
+        long startedAtMillis = nowMillis - TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        SlowCall slowCall = new SlowCall(
+                trackedMethod.getName(),
+                durationNanos / 1_000_000.0,
+                thread.getName(),
+                Instant.ofEpochMilli(startedAtMillis),
+                summarizeArguments(args),
+                error == null ? null : error.getClass().getSimpleName());
+        synchronized (this) {
+            rotateIfExpired(nowMillis);
+            if (currentWindow.size() < capacity) {
+                currentWindow.add(new Candidate(durationNanos, slowCall));
+            } else if (durationNanos > currentWindow.peek().durationNanos()) {
+                currentWindow.poll();
+                currentWindow.add(new Candidate(durationNanos, slowCall));
+            }
+            if (currentWindow.size() == capacity) {
+                admissionFloorNanos = currentWindow.peek().durationNanos();
+            }
+        }
+    }
+
+    public synchronized List<SlowCall> getSlowestCalls() {
+        rotateIfExpired(System.currentTimeMillis());
+        return Stream.concat(previousWindow.stream(), currentWindow.stream())
+                .sorted(BY_DURATION.reversed())
+                .limit(capacity)
+                .map(Candidate::slowCall)
+                .toList();
+    }
+
+    /**
+     * Если с конца текущего окна прошло больше целого окна, предыдущее окно считается пустым.
+     */
+    private void rotateIfExpired(long nowMillis) {
+        if (nowMillis < windowEndMillis) {
+            return;
+        }
+        previousWindow = nowMillis < windowEndMillis + windowMillis ? new ArrayList<>(currentWindow) : List.of();
+        currentWindow.clear();
+        admissionFloorNanos = -1;
+        windowEndMillis = nowMillis + windowMillis;
+    }
+
+    private static String summarizeArguments(Object[] args) {
+        if (args == null || args.length == 0) {
+            return "";
+        }
+        StringBuilder summary = new StringBuilder();
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                summary.append(", ");
+            }
+            summary.append(summarizeArgument(args[i]));
+        }
+        return summary.toString();
+    }
+
+    private static String summarizeArgument(Object arg) {
+        if (arg == null) {
+            return "null";
+        }
+        if (arg instanceof Collection<?> collection) {
+            return arg.getClass().getSimpleName() + "[size=" + collection.size() + "]";
+        }
+        if (arg instanceof Map<?, ?> map) {
+            return arg.getClass().getSimpleName() + "[size=" + map.size() + "]";
+        }
+        if (arg.getClass().isArray()) {
+            return arg.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(arg) + "]";
+        }
+        String value = String.valueOf(arg);
+        return value.length() > MAX_ARGUMENT_LENGTH ? value.substring(0, MAX_ARGUMENT_LENGTH) + "..." : value;
+    }
+
+    private record Candidate(long durationNanos, SlowCall slowCall) {
+    }
+}
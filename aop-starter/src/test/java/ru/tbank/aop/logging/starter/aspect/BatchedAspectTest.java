@@ -0,0 +1,149 @@
+package ru.tbank.aop.logging.starter.aspect;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import ru.tbank.aop.logging.starter.annotation.Batched;
+import ru.tbank.aop.logging.starter.batching.RequestBatcherRegistry;
+import ru.tbank.aop.logging.starter.exception.BatchedCallTimeoutException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BatchedAspectTest {
+
+    private RequestBatcherRegistry requestBatcherRegistry;
+    private LookupService lookupService;
+    private LookupService target;
+
+    @BeforeEach
+    public void setup() {
+        requestBatcherRegistry = new RequestBatcherRegistry();
+        target = new LookupService();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new BatchedAspect(requestBatcherRegistry));
+        lookupService = proxyFactory.getProxy();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        requestBatcherRegistry.shutdown();
+    }
+
+    @Test
+    public void testConcurrentCallsAreCollapsed() throws Exception {
+        // Given
+        int callers = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        List<Callable<String>> calls = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            String key = "slug-" + i;
+            calls.add(() -> lookupService.findBySlug(key));
+        }
+
+        // When
+        List<Future<String>> results = executor.invokeAll(calls);
+        executor.shutdown();
+
+        // Then
+        for (int i = 0; i < callers; i++) {
+            assertThat(results.get(i).get()).isEqualTo("SLUG-" + i);
+        }
+        assertThat(target.bulkCalls.get()).isLessThan(callers);
+    }
+
+    @Test
+    public void testBatchIsDispatchedWhenFull() {
+        // When
+        String result = lookupService.findSingle("slug");
+
+        // Then
+        assertThat(result).isEqualTo("SLUG");
+        assertThat(target.bulkCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testBulkMethodErrorIsPropagated() {
+        // When & Then
+        assertThatThrownBy(() -> lookupService.findFailing("slug")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testPrivateBulkMethodIsInvokedOnTarget() {
+        // When
+        String result = lookupService.findPrivately("slug");
+
+        // Then
+        assertThat(result).isEqualTo("SLUG");
+        assertThat(target.bulkCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testSlowBulkMethodTimesOut() {
+        // When & Then
+        assertThatThrownBy(() -> lookupService.findSlow("slug")).isInstanceOf(BatchedCallTimeoutException.class);
+    }
+
+    public static class LookupService {
+
+        private final AtomicInteger bulkCalls = new AtomicInteger();
+
+        @Batched(bulkMethod = "findAllBySlugs", windowMs = 50)
+        public String findBySlug(String slug) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Batched(bulkMethod = "findAllBySlugs", maxBatchSize = 1, windowMs = 10_000)
+        public String findSingle(String slug) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Batched(bulkMethod = "failAll")
+        public String findFailing(String slug) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Batched(bulkMethod = "findAllPrivately", windowMs = 1)
+        public String findPrivately(String slug) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Batched(bulkMethod = "findAllSlowly", windowMs = 1, timeoutMs = 50)
+        public String findSlow(String slug) {
+            throw new UnsupportedOperationException();
+        }
+
+        public Map<String, String> findAllBySlugs(Collection<String> slugs) {
+            bulkCalls.incrementAndGet();
+            return slugs.stream().collect(Collectors.toMap(Function.identity(), String::toUpperCase));
+        }
+
+        public Map<String, String> failAll(List<String> slugs) {
+            throw new IllegalStateException("fail");
+        }
+
+        private Map<String, String> findAllPrivately(Collection<String> slugs) {
+            bulkCalls.incrementAndGet();
+            return slugs.stream().collect(Collectors.toMap(Function.identity(), String::toUpperCase));
+        }
+
+        public Map<String, String> findAllSlowly(Collection<String> slugs) throws InterruptedException {
+            Thread.sleep(500);
+            return Map.of();
+        }
+    }
+}
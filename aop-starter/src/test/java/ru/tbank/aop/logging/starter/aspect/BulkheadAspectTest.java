@@ -0,0 +1,68 @@
+package ru.tbank.aop.logging.starter.aspect;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import ru.tbank.aop.logging.starter.annotation.Bulkhead;
+import ru.tbank.aop.logging.starter.bulkhead.BulkheadRegistry;
+import ru.tbank.aop.logging.starter.bulkhead.BulkheadSnapshot;
+import ru.tbank.aop.logging.starter.exception.BulkheadFullException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BulkheadAspectTest {
+
+    private BulkheadRegistry bulkheadRegistry;
+    private GuardedService guardedService;
+    private GuardedService target;
+
+    @BeforeEach
+    public void setup() {
+        bulkheadRegistry = new BulkheadRegistry();
+        target = new GuardedService();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new BulkheadAspect(bulkheadRegistry));
+        guardedService = proxyFactory.getProxy();
+    }
+
+    @Test
+    public void testCallIsRejectedWhenAllPermitsAreTaken() throws Exception {
+        // Given
+        CompletableFuture<String> blockedCall = CompletableFuture.supplyAsync(guardedService::call);
+        assertThat(target.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When / Then
+        assertThatThrownBy(() -> guardedService.call())
+                .isInstanceOf(BulkheadFullException.class);
+        target.release.countDown();
+        assertThat(blockedCall.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(guardedService.call()).isEqualTo("done");
+
+        BulkheadSnapshot snapshot = bulkheadRegistry.getSnapshots().get(0);
+        assertThat(snapshot.acceptedCalls()).isEqualTo(2);
+        assertThat(snapshot.rejectedCalls()).isEqualTo(1);
+        assertThat(snapshot.availablePermits()).isEqualTo(1);
+    }
+
+    public static class GuardedService {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Bulkhead(maxConcurrentCalls = 1, maxWaitMs = 10)
+        public String call() {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "done";
+        }
+    }
+}
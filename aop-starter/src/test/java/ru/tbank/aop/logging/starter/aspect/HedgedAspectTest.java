@@ -0,0 +1,142 @@
+package ru.tbank.aop.logging.starter.aspect;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import ru.tbank.aop.logging.starter.annotation.Hedged;
+import ru.tbank.aop.logging.starter.hedging.HedgedMethodRegistry;
+import ru.tbank.aop.logging.starter.hedging.HedgedMethodSnapshot;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HedgedAspectTest {
+
+    private HedgedMethodRegistry hedgedMethodRegistry;
+    private RemoteService remoteService;
+    private RemoteService target;
+
+    @BeforeEach
+    public void setup() {
+        hedgedMethodRegistry = new HedgedMethodRegistry();
+        target = new RemoteService();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new HedgedAspect(hedgedMethodRegistry));
+        remoteService = proxyFactory.getProxy();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        target.release.countDown();
+        hedgedMethodRegistry.shutdown();
+    }
+
+    @Test
+    public void testHedgedAttemptWinsWhenFirstAttemptStalls() {
+        // When
+        long startNanos = System.nanoTime();
+        String result = remoteService.fetch();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        // Then
+        assertThat(result).isEqualTo("attempt-2");
+        assertThat(elapsedMillis).isLessThan(1_000);
+        HedgedMethodSnapshot snapshot = hedgedMethodRegistry.getSnapshots().get(0);
+        assertThat(snapshot.calls()).isEqualTo(1);
+        assertThat(snapshot.hedgedAttempts()).isEqualTo(1);
+        assertThat(snapshot.hedgeWins()).isEqualTo(1);
+    }
+
+    @Test
+    public void testHedgeResultIsReturnedWhenFirstAttemptIgnoresInterrupts() {
+        // When
+        long startNanos = System.nanoTime();
+        String result = remoteService.fetchIgnoringInterrupts();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        // Then
+        assertThat(result).isEqualTo("attempt-2");
+        assertThat(elapsedMillis).isLessThan(500);
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    public void testLosingHedgeIsCancelled() throws InterruptedException {
+        // When
+        String result = remoteService.fetchWithSlowHedge();
+
+        // Then
+        assertThat(result).isEqualTo("attempt-1");
+        assertThat(target.hedgeInterrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    public void testFailureIsPropagatedWhenAllAttemptsFail() {
+        // When / Then
+        assertThatThrownBy(() -> remoteService.fail())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("failure");
+        assertThat(target.failures.get()).isEqualTo(2);
+    }
+
+    public static class RemoteService {
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch hedgeInterrupted = new CountDownLatch(1);
+
+        @Hedged(delayMs = 20)
+        public String fetch() {
+            int attempt = attempts.incrementAndGet();
+            if (attempt == 1) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "attempt-" + attempt;
+        }
+
+        @Hedged(delayMs = 20)
+        public String fetchIgnoringInterrupts() {
+            int attempt = attempts.incrementAndGet();
+            if (attempt == 1) {
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+                while (System.nanoTime() < deadline && release.getCount() > 0) {
+                    Thread.onSpinWait();
+                }
+            }
+            return "attempt-" + attempt;
+        }
+
+        @Hedged(delayMs = 10)
+        public String fetchWithSlowHedge() throws InterruptedException {
+            int attempt = attempts.incrementAndGet();
+            if (attempt == 1) {
+                Thread.sleep(50);
+                return "attempt-1";
+            }
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                hedgeInterrupted.countDown();
+            }
+            return "attempt-" + attempt;
+        }
+
+        @Hedged(delayMs = 1)
+        public String fail() throws InterruptedException {
+            failures.incrementAndGet();
+            Thread.sleep(20);
+            throw new IllegalStateException("failure");
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package ru.tbank.aop.logging.starter.aspect;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import ru.tbank.aop.logging.starter.annotation.MethodExecutionTimeTracked;
+import ru.tbank.aop.logging.starter.config.MethodExecutionTimeProperties;
+import ru.tbank.aop.logging.starter.listener.MethodExecutionListener;
+import ru.tbank.aop.logging.starter.metrics.TrackedMethod;
+import ru.tbank.aop.logging.starter.slowcall.SlowCall;
+import ru.tbank.aop.logging.starter.slowcall.SlowCallRecorder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MethodExecutionTimeLoggedAspectTest {
+
+    private final List<RecordedExecution> executions = new CopyOnWriteArrayList<>();
+    private TrackedService trackedService;
+    private SlowCallRecorder slowCallRecorder;
+
+    @BeforeEach
+    public void setup() {
+        executions.clear();
+        MethodExecutionListener listener = new MethodExecutionListener() {
+            @Override
+            public void onComplete(TrackedMethod trackedMethod, long durationNanos, Throwable error) {
+                executions.add(new RecordedExecution(trackedMethod, durationNanos, error));
+            }
+        };
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new TrackedService());
+        proxyFactory.setProxyTargetClass(true);
+        MethodExecutionTimeProperties properties = new MethodExecutionTimeProperties();
+        slowCallRecorder = new SlowCallRecorder(properties);
+        proxyFactory.addAspect(new MethodExecutionTimeLoggedAspect(
+                new MethodExecutionTimeTracker(List.of(listener), slowCallRecorder, properties)));
+        trackedService = proxyFactory.getProxy();
+    }
+
+    @Test
+    public void testSynchronousMethodIsRecorded() {
+        // When
+        trackedService.hello();
+
+        // Then
+        assertThat(executions).hasSize(1);
+        assertThat(executions.get(0).trackedMethod().getName()).isEqualTo("TrackedService#hello");
+        assertThat(executions.get(0).error()).isNull();
+    }
+
+    @Test
+    public void testFailedMethodIsRecordedWithError() {
+        // When & Then
+        assertThatThrownBy(() -> trackedService.fail()).isInstanceOf(IllegalStateException.class);
+        assertThat(executions).hasSize(1);
+        assertThat(executions.get(0).error()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testAsyncMethodIsRecordedOnCompletion() throws Exception {
+        // Given
+        CompletableFuture<String> future = new CompletableFuture<>();
+
+        // When
+        CompletableFuture<String> result = trackedService.async(future);
+        assertThat(executions).isEmpty();
+        TimeUnit.MILLISECONDS.sleep(20);
+        future.complete("done");
+
+        // Then
+        assertThat(result.get()).isEqualTo("done");
+        assertThat(executions).hasSize(1);
+        assertThat(executions.get(0).durationNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    public void testUnsampledMethodIsNotRecorded() {
+        // When
+        for (int i = 0; i < 100; i++) {
+            trackedService.neverSampled();
+        }
+
+        // Then
+        assertThat(executions).isEmpty();
+    }
+
+    @Test
+    public void testSlowCallIsCaptured() throws Exception {
+        // When
+        trackedService.slow(List.of(1, 2, 3));
+
+        // Then
+        List<SlowCall> slowCalls = slowCallRecorder.getSlowestCalls();
+        assertThat(slowCalls).hasSize(1);
+        assertThat(slowCalls.get(0).method()).isEqualTo("TrackedService#slow");
+        assertThat(slowCalls.get(0).arguments()).contains("size=3");
+        assertThat(slowCalls.get(0).thread()).isEqualTo(Thread.currentThread().getName());
+    }
+
+    @MethodExecutionTimeTracked
+    public static class TrackedService {
+
+        public String hello() {
+            return "hello";
+        }
+
+        public void fail() {
+            throw new IllegalStateException("fail");
+        }
+
+        @MethodExecutionTimeTracked(sampleRate = 0)
+        public String neverSampled() {
+            return "unsampled";
+        }
+
+        @MethodExecutionTimeTracked(slowThresholdMs = 5)
+        public void slow(List<Integer> numbers) throws InterruptedException {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+
+        public CompletableFuture<String> async(CompletableFuture<String> future) {
+            return future;
+        }
+    }
+
+    private record RecordedExecution(TrackedMethod trackedMethod, long durationNanos, Throwable error) {
+    }
+}
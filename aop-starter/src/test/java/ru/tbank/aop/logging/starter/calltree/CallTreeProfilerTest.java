@@ -0,0 +1,68 @@
+package ru.tbank.aop.logging.starter.calltree;
+
+import org.junit.jupiter.api.Test;
+import ru.tbank.aop.logging.starter.metrics.TrackedMethod;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CallTreeProfilerTest {
+
+    private final TrackedMethod controllerMethod = trackedMethod("controller");
+    private final TrackedMethod serviceMethod = trackedMethod("service");
+
+    @Test
+    public void testNestedCallsProduceCollapsedStacks() throws InterruptedException {
+        // Given
+        CallTreeProfiler callTreeProfiler = new CallTreeProfiler();
+
+        // When
+        callTreeProfiler.onEnter(controllerMethod);
+        TimeUnit.MILLISECONDS.sleep(5);
+        callTreeProfiler.onEnter(serviceMethod);
+        TimeUnit.MILLISECONDS.sleep(10);
+        callTreeProfiler.onExit(serviceMethod, null);
+        callTreeProfiler.onExit(controllerMethod, null);
+
+        // Then
+        CallTreeNode controllerNode = callTreeProfiler.getRoot().getChildren().iterator().next();
+        CallTreeNode serviceNode = controllerNode.getChildren().iterator().next();
+        assertThat(controllerNode.getInclusiveNanos())
+                .isEqualTo(controllerNode.getExclusiveNanos() + serviceNode.getInclusiveNanos());
+        assertThat(serviceNode.getCount()).isEqualTo(1);
+        assertThat(callTreeProfiler.toCollapsedStacks())
+                .contains("CallTreeProfilerTest#controller ")
+                .contains("CallTreeProfilerTest#controller;CallTreeProfilerTest#service ");
+    }
+
+    @Test
+    public void testResetClearsTree() {
+        // Given
+        CallTreeProfiler callTreeProfiler = new CallTreeProfiler();
+        callTreeProfiler.onEnter(controllerMethod);
+        callTreeProfiler.onExit(controllerMethod, null);
+
+        // When
+        callTreeProfiler.reset();
+
+        // Then
+        assertThat(callTreeProfiler.getRoot().getChildren()).isEmpty();
+        assertThat(callTreeProfiler.toCollapsedStacks()).isEmpty();
+    }
+
+    private static TrackedMethod trackedMethod(String methodName) {
+        try {
+            return new TrackedMethod(CallTreeProfilerTest.class.getDeclaredMethod(methodName), 1.0,
+                    TrackedMethod.SLOW_THRESHOLD_DISABLED);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void controller() {
+    }
+
+    private static void service() {
+    }
+}
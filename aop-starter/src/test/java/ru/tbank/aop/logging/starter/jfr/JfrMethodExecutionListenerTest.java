@@ -0,0 +1,90 @@
+package ru.tbank.aop.logging.starter.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.tbank.aop.logging.starter.metrics.TrackedMethod;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JfrMethodExecutionListenerTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void testEventIsCommittedWithMethodAndOutcome() throws Exception {
+        // Given
+        JfrMethodExecutionListener listener = new JfrMethodExecutionListener();
+        TrackedMethod trackedMethod = trackedMethod();
+        Path dump = tempDir.resolve("enabled.jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable(TrackedMethodExecutionEvent.NAME).withoutThreshold();
+            recording.start();
+            listener.onEnter(trackedMethod);
+            work();
+            listener.onExit(trackedMethod, null);
+            listener.onEnter(trackedMethod);
+            listener.onExit(trackedMethod, new IllegalStateException("fail"));
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        // Then
+        List<RecordedEvent> events = trackedEvents(dump);
+        assertThat(events).hasSize(2);
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.getString("className")).isEqualTo("JfrMethodExecutionListenerTest");
+            assertThat(event.getString("methodName")).isEqualTo("work");
+        });
+        assertThat(events.get(0).getString("outcome")).isEqualTo("success");
+        assertThat(events.get(0).getDuration()).isGreaterThanOrEqualTo(Duration.ofMillis(5));
+        assertThat(events.get(1).getString("outcome")).isEqualTo("IllegalStateException");
+    }
+
+    @Test
+    public void testNothingIsCommittedWhenEventIsDisabled() throws Exception {
+        // Given
+        JfrMethodExecutionListener listener = new JfrMethodExecutionListener();
+        TrackedMethod trackedMethod = trackedMethod();
+        Path dump = tempDir.resolve("disabled.jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.disable(TrackedMethodExecutionEvent.NAME);
+            recording.start();
+            listener.onEnter(trackedMethod);
+            work();
+            listener.onExit(trackedMethod, null);
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        // Then
+        assertThat(trackedEvents(dump)).isEmpty();
+    }
+
+    private static TrackedMethod trackedMethod() throws NoSuchMethodException {
+        return new TrackedMethod(JfrMethodExecutionListenerTest.class.getDeclaredMethod("work"),
+                1.0, TrackedMethod.SLOW_THRESHOLD_DISABLED);
+    }
+
+    private static List<RecordedEvent> trackedEvents(Path dump) throws IOException {
+        return RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> event.getEventType().getName().equals(TrackedMethodExecutionEvent.NAME))
+                .toList();
+    }
+
+    private static void work() throws InterruptedException {
+        Thread.sleep(10);
+    }
+}
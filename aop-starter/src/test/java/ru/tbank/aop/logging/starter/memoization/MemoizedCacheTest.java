@@ -0,0 +1,156 @@
+package ru.tbank.aop.logging.starter.memoization;
+
+import org.junit.jupiter.api.Test;
+import ru.tbank.aop.logging.starter.annotation.Memoized;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MemoizedCacheTest {
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    @Test
+    public void testResultIsComputedOncePerKey() throws Throwable {
+        // Given
+        MemoizedCache cache = createCache("square");
+
+        // When
+        Object first = cache.get(new Object[]{3}, () -> square(3));
+        Object second = cache.get(new Object[]{3}, () -> square(3));
+        Object third = cache.get(new Object[]{4}, () -> square(4));
+
+        // Then
+        assertThat(first).isEqualTo(9);
+        assertThat(second).isEqualTo(9);
+        assertThat(third).isEqualTo(16);
+        assertThat(invocations.get()).isEqualTo(2);
+        MemoizedCacheSnapshot snapshot = cache.snapshot();
+        assertThat(snapshot.hits()).isEqualTo(1);
+        assertThat(snapshot.misses()).isEqualTo(2);
+    }
+
+    @Test
+    public void testKeyIsBuiltFromSelectedParameters() throws Throwable {
+        // Given
+        MemoizedCache cache = createCache("describe");
+
+        // When
+        Object first = cache.get(new Object[]{"slug", 1}, () -> describe("slug", 1));
+        Object second = cache.get(new Object[]{"slug", 2}, () -> describe("slug", 2));
+
+        // Then
+        assertThat(first).isEqualTo(second);
+        assertThat(invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testNullResultIsMemoizedAndExceptionIsNot() throws Throwable {
+        // Given
+        MemoizedCache cache = createCache("nothing");
+
+        // When
+        assertThatThrownBy(() -> cache.get(new Object[0], () -> {
+            invocations.incrementAndGet();
+            throw new IllegalStateException("fail");
+        })).isInstanceOf(IllegalStateException.class);
+        Object first = cache.get(new Object[0], this::nothing);
+        Object second = cache.get(new Object[0], this::nothing);
+
+        // Then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        assertThat(invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testRecursiveCallWithSameKeyIsInvokedDirectly() throws Throwable {
+        // Given
+        MemoizedCache cache = createCache("square");
+
+        // When
+        Object result = cache.get(new Object[]{5}, () -> {
+            Object inner = cache.get(new Object[]{5}, () -> square(5));
+            return (Integer) inner + 1;
+        });
+
+        // Then
+        assertThat(result).isEqualTo(26);
+        assertThat(cache.get(new Object[]{5}, () -> square(5))).isEqualTo(26);
+        assertThat(invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testWaiterFallsBackToDirectCallWhenComputationHangs() throws Throwable {
+        // Given
+        MemoizedCache cache = createCache("slow");
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> hung = CompletableFuture.supplyAsync(() -> {
+            try {
+                return cache.get(new Object[0], () -> {
+                    computing.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return "hung";
+                });
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        computing.await(1, TimeUnit.SECONDS);
+
+        // When
+        long startNanos = System.nanoTime();
+        Object result = cache.get(new Object[0], () -> "direct");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        release.countDown();
+
+        // Then
+        assertThat(result).isEqualTo("direct");
+        assertThat(elapsedMillis).isLessThan(1_000);
+        assertThat(hung.get(1, TimeUnit.SECONDS)).isEqualTo("hung");
+    }
+
+    private MemoizedCache createCache(String methodName) {
+        Method method = findMethod(methodName);
+        return new MemoizedCache(method, method.getAnnotation(Memoized.class));
+    }
+
+    private static Method findMethod(String methodName) {
+        for (Method method : MemoizedCacheTest.class.getDeclaredMethods()) {
+            if (method.getName().equals(methodName)) {
+                return method;
+            }
+        }
+        throw new IllegalArgumentException(methodName);
+    }
+
+    @Memoized
+    private Integer square(Integer number) {
+        invocations.incrementAndGet();
+        return number * number;
+    }
+
+    @Memoized(keyParameters = 0)
+    private String describe(String slug, Integer version) {
+        invocations.incrementAndGet();
+        return slug + ":" + version;
+    }
+
+    @Memoized(waitTimeoutMs = 50)
+    private String slow() {
+        return "slow";
+    }
+
+    @Memoized
+    private Object nothing() {
+        invocations.incrementAndGet();
+        return null;
+    }
+}
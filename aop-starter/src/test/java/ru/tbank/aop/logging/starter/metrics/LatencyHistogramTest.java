@@ -0,0 +1,72 @@
+package ru.tbank.aop.logging.starter.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketIndexIsMonotonicAndReversible() {
+        // Given
+        long[] values = {0, 1, 127, 128, 129, 1_000, 65_535, 1_000_000, 123_456_789, Long.MAX_VALUE};
+
+        // When & Then
+        int previousIndex = -1;
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertThat(index).isGreaterThanOrEqualTo(previousIndex).isLessThan(LatencyHistogram.BUCKET_COUNT);
+            assertThat(LatencyHistogram.highestEquivalentValue(index)).isGreaterThanOrEqualTo(value);
+            previousIndex = index;
+        }
+    }
+
+    @Test
+    public void testPercentilesWithinPrecision() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+        LongStream.rangeClosed(1, 10_000).forEach(i -> histogram.record(i * 1_000));
+
+        // When
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        // Then
+        assertThat(snapshot.getTotalCount()).isEqualTo(10_000);
+        assertThat(snapshot.getMaxNanos()).isEqualTo(10_000_000);
+        assertThat((double) snapshot.getValueAtPercentile(50.0)).isCloseTo(5_000_000, within(5_000_000 * 0.02));
+        assertThat((double) snapshot.getValueAtPercentile(99.0)).isCloseTo(9_900_000, within(9_900_000 * 0.02));
+        assertThat(snapshot.getValueAtPercentile(100.0)).isEqualTo(10_000_000);
+    }
+
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+        int threads = 8;
+        int recordsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        // When
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < recordsPerThread; j++) {
+                    histogram.record(j);
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertThat(histogram.snapshot().getTotalCount()).isEqualTo((long) threads * recordsPerThread);
+    }
+}
@@ -0,0 +1,39 @@
+package ru.tbank.aop.logging.starter.resource;
+
+import org.junit.jupiter.api.Test;
+import ru.tbank.aop.logging.starter.metrics.TrackedMethod;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceUsageListenerTest {
+
+    private static final int ALLOCATION_SIZE = 1024 * 1024;
+
+    private static byte[] sink;
+
+    @Test
+    public void testAllocatedBytesAreRecorded() throws NoSuchMethodException {
+        // Given
+        ResourceUsageListener resourceUsageListener = new ResourceUsageListener();
+        TrackedMethod trackedMethod = new TrackedMethod(ResourceUsageListenerTest.class.getDeclaredMethod("allocate"),
+                1.0, TrackedMethod.SLOW_THRESHOLD_DISABLED);
+
+        // When
+        resourceUsageListener.onEnter(trackedMethod);
+        allocate();
+        resourceUsageListener.onExit(trackedMethod, null);
+
+        // Then
+        List<ResourceUsageSnapshot> snapshots = resourceUsageListener.getSnapshots();
+        assertThat(snapshots).hasSize(1);
+        assertThat(snapshots.get(0).method()).isEqualTo("ResourceUsageListenerTest#allocate");
+        assertThat(snapshots.get(0).count()).isEqualTo(1);
+        assertThat(snapshots.get(0).totalAllocatedBytes()).isGreaterThanOrEqualTo(ALLOCATION_SIZE);
+    }
+
+    private static void allocate() {
+        sink = new byte[ALLOCATION_SIZE];
+    }
+}
@@ -0,0 +1,70 @@
+package ru.tbank.aop.logging.starter.slowcall;
+
+import org.junit.jupiter.api.Test;
+import ru.tbank.aop.logging.starter.config.MethodExecutionTimeProperties;
+import ru.tbank.aop.logging.starter.metrics.TrackedMethod;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlowCallRecorderTest {
+
+    @Test
+    public void testSlowestCallsSurviveBurstOfBorderlineCalls() throws NoSuchMethodException {
+        // Given
+        SlowCallRecorder slowCallRecorder = new SlowCallRecorder(properties(3, Duration.ofMinutes(5)));
+        TrackedMethod trackedMethod = trackedMethod();
+
+        // When
+        record(slowCallRecorder, trackedMethod, 900, "outlier-1");
+        record(slowCallRecorder, trackedMethod, 700, "outlier-2");
+        for (int i = 0; i < 1_000; i++) {
+            record(slowCallRecorder, trackedMethod, 500 + i % 10, "borderline");
+        }
+        record(slowCallRecorder, trackedMethod, 800, "outlier-3");
+
+        // Then
+        List<SlowCall> slowCalls = slowCallRecorder.getSlowestCalls();
+        assertThat(slowCalls).extracting(SlowCall::arguments)
+                .containsExactly("outlier-1", "outlier-3", "outlier-2");
+    }
+
+    @Test
+    public void testPreviousWindowIsKeptAfterRotation() throws Exception {
+        // Given
+        SlowCallRecorder slowCallRecorder = new SlowCallRecorder(properties(2, Duration.ofMillis(100)));
+        TrackedMethod trackedMethod = trackedMethod();
+        record(slowCallRecorder, trackedMethod, 900, "previous");
+
+        // When
+        Thread.sleep(120);
+        record(slowCallRecorder, trackedMethod, 600, "current");
+
+        // Then
+        assertThat(slowCallRecorder.getSlowestCalls()).extracting(SlowCall::arguments)
+                .containsExactly("previous", "current");
+        Thread.sleep(250);
+        assertThat(slowCallRecorder.getSlowestCalls()).isEmpty();
+    }
+
+    private static MethodExecutionTimeProperties properties(int capacity, Duration window) {
+        MethodExecutionTimeProperties properties = new MethodExecutionTimeProperties();
+        properties.getSlowCalls().setCapacity(capacity);
+        properties.getSlowCalls().setWindow(window);
+        return properties;
+    }
+
+    private static TrackedMethod trackedMethod() throws NoSuchMethodException {
+        return new TrackedMethod(SlowCallRecorderTest.class.getDeclaredMethod("trackedMethod"),
+                1.0, TrackedMethod.SLOW_THRESHOLD_DISABLED);
+    }
+
+    private static void record(SlowCallRecorder slowCallRecorder, TrackedMethod trackedMethod,
+                               long durationMs, String argument) {
+        slowCallRecorder.record(trackedMethod, TimeUnit.MILLISECONDS.toNanos(durationMs), Thread.currentThread(),
+                new Object[]{argument}, null);
+    }
+}
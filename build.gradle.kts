@@ -1,6 +1,7 @@
 plugins {
     id("org.springframework.boot") version "3.3.3"
     id("java")
+    id("me.champeau.jmh") version "0.7.2"
     jacoco
 }
 
@@ -16,15 +17,18 @@ val apacheCommonsVersion = "3.17.0"
 val wiremockStandaloneVersion = "3.6.0"
 val wiremockTestcontainersVersion = "1.0-alpha-13"
 val testContainersVersion = "1.20.2"
-val caffeineCacheVersion = "3.1.8"
 val resilience4jCircuitBreakerVersion = "2.2.0"
 val resilience4jSpringVersion = "2.2.0"
 val springDocVersion = "2.6.0"
+val jmhCoreVersion = "1.37"
+val jolVersion = "0.17"
 
 repositories {
     mavenCentral()
 }
 
+val aspectjAgent: Configuration by configurations.creating
+
 dependencies {
     // spring
     implementation(platform("org.springframework.boot:spring-boot-dependencies:$springBootVersion"))
@@ -37,6 +41,8 @@ dependencies {
     // aop
     implementation("org.springframework.boot:spring-boot-starter-aop")
     implementation(project(":aop-starter"))
+    aspectjAgent(platform("org.springframework.boot:spring-boot-dependencies:$springBootVersion"))
+    aspectjAgent("org.aspectj:aspectjweaver")
 
     // tests
     testImplementation("org.junit.jupiter:junit-jupiter-api:$junitVersion")
@@ -49,6 +55,7 @@ dependencies {
 
     // jackson
     implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-xml:$jacksonVersion")
+    implementation("com.fasterxml.jackson.module:jackson-module-blackbird:$jacksonVersion")
 
     // lombok
     compileOnly("org.projectlombok:lombok:$lombokVersion")
@@ -62,10 +69,6 @@ dependencies {
     // utils
     implementation("org.apache.commons:commons-lang3:$apacheCommonsVersion")
 
-    // cache
-    implementation("org.springframework.boot:spring-boot-starter-cache")
-    implementation("com.github.ben-manes.caffeine:caffeine:$caffeineCacheVersion")
-
     // validation
     implementation("org.springframework.boot:spring-boot-starter-validation")
 
@@ -78,12 +81,30 @@ dependencies {
 
     // metrics
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+
+    // benchmarks
+    jmh("org.openjdk.jol:jol-core:$jolVersion")
 }
 
 tasks.getByName<Test>("test") {
     useJUnitPlatform()
 }
 
+tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
+    if (project.hasProperty("aspectjWeaving")) {
+        jvmArgs("-javaagent:${aspectjAgent.singleFile.absolutePath}")
+        systemProperty("aop-starter.weaving.mode", "aspectj")
+    }
+}
+
+jmh {
+    jmhVersion.set(jmhCoreVersion)
+    if (project.hasProperty("jmhGcProfiler")) {
+        profilers.add("gc")
+    }
+}
+
 tasks.withType(JavaCompile::class) {
     options.compilerArgs.add("-parameters")
 }
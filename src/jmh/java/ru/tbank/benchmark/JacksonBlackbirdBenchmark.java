@@ -0,0 +1,117 @@
+package ru.tbank.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.tbank.hw2.model.City;
+import ru.tbank.hw5.dto.Location;
+import ru.tbank.hw5.dto.PlaceCategory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Десериализация полезных нагрузок проекта с модулем Blackbird и без него: City (hw2), массивы Location
+ * и PlaceCategory из KudaGo (hw5) и ValCurs ЦБ РФ (hw8). Мапперы настроены так же, как в приложении.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JacksonBlackbirdBenchmark {
+
+    private static final int ARRAY_SIZE = 100;
+    private static final int VALUTE_COUNT = 40;
+
+    @Param({"false", "true"})
+    private boolean blackbird;
+
+    private byte[] cityJson;
+    private byte[] locationsJson;
+    private byte[] placeCategoriesJson;
+    private byte[] valCursXml;
+
+    private ObjectReader cityReader;
+    private ObjectReader locationsReader;
+    private ObjectReader placeCategoriesReader;
+    private ObjectReader valCursReader;
+
+    @Setup
+    public void setup() throws ClassNotFoundException {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        XmlMapper xmlMapper = new XmlMapper();
+        xmlMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        if (blackbird) {
+            objectMapper.registerModule(new BlackbirdModule());
+            xmlMapper.registerModule(new BlackbirdModule());
+        }
+
+        cityJson = bytes("{\"slug\": \"spb\", \"coords\": {\"lat\": 59.939095, \"lon\": 30.315868}}");
+        locationsJson = bytes(IntStream.range(0, ARRAY_SIZE)
+                .mapToObj(i -> String.format("{\"slug\": \"city-%d\", \"name\": \"Город %d\"}", i, i))
+                .collect(Collectors.joining(",", "[", "]")));
+        placeCategoriesJson = bytes(IntStream.range(0, ARRAY_SIZE)
+                .mapToObj(i -> String.format("{\"id\": %d, \"slug\": \"category-%d\", \"name\": \"Категория %d\"}", i, i, i))
+                .collect(Collectors.joining(",", "[", "]")));
+        valCursXml = bytes(IntStream.range(0, VALUTE_COUNT)
+                .mapToObj(i -> String.format("<Valute ID=\"R01%03d\"><NumCode>%03d</NumCode><CharCode>C%02d</CharCode>"
+                        + "<Nominal>1</Nominal><Name>Валюта %d</Name><Value>%d,1234</Value><VunitRate>%d,1234</VunitRate>"
+                        + "</Valute>", i, i, i, i, 10 + i, 10 + i))
+                .collect(Collectors.joining("", "<ValCurs Date=\"17.10.2024\" name=\"Foreign Currency Market\">",
+                        "</ValCurs>")));
+
+        cityReader = objectMapper.readerFor(City.class);
+        locationsReader = objectMapper.readerFor(Location[].class);
+        placeCategoriesReader = objectMapper.readerFor(PlaceCategory[].class);
+        // DTO ответа ЦБ РФ - приватный вложенный класс CentralBankClient
+        Class<?> currencyRateResponseClass =
+                Class.forName("ru.tbank.hw8.client.CentralBankClient$CentralBankCurrencyRateResponse");
+        JavaType valCursType = xmlMapper.getTypeFactory().constructCollectionType(List.class, currencyRateResponseClass);
+        valCursReader = xmlMapper.readerFor(valCursType);
+    }
+
+    @Benchmark
+    public City city() throws IOException {
+        return cityReader.readValue(cityJson);
+    }
+
+    @Benchmark
+    public Location[] locations() throws IOException {
+        return locationsReader.readValue(locationsJson);
+    }
+
+    @Benchmark
+    public PlaceCategory[] placeCategories() throws IOException {
+        return placeCategoriesReader.readValue(placeCategoriesJson);
+    }
+
+    @Benchmark
+    public List<?> valCurs() throws IOException {
+        return valCursReader.readValue(valCursXml);
+    }
+
+    private static byte[] bytes(String payload) {
+        return payload.getBytes(StandardCharsets.UTF_8);
+    }
+}
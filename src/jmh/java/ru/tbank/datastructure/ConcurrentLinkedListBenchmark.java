@@ -0,0 +1,143 @@
+package ru.tbank.datastructure;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Пропускная способность add + remove старейшего своего элемента (рабочее окно 64 элемента на поток):
+ * CustomLinkedList под глобальной блокировкой, ConcurrentCustomLinkedList и ConcurrentLinkedDeque.
+ * Количество потоков (1/2/4/8/16) задают вложенные наследники с аннотацией @Threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public abstract class ConcurrentLinkedListBenchmark {
+
+    private static final int WINDOW = 64;
+
+    @State(Scope.Benchmark)
+    public static class SharedList {
+
+        @Param({"synchronized", "lockFree", "concurrentLinkedDeque"})
+        private String implementation;
+
+        private final AtomicInteger threadIds = new AtomicInteger();
+        private ListAdapter list;
+
+        @Setup
+        public void setup() {
+            list = switch (implementation) {
+                case "synchronized" -> new SynchronizedAdapter();
+                case "lockFree" -> new LockFreeAdapter();
+                case "concurrentLinkedDeque" -> new DequeAdapter();
+                default -> throw new IllegalArgumentException(implementation);
+            };
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Producer {
+        private final ArrayDeque<Integer> added = new ArrayDeque<>();
+        private int nextValue;
+
+        @Setup
+        public void setup(SharedList sharedList) {
+            nextValue = sharedList.threadIds.getAndIncrement() << 24;
+        }
+    }
+
+    @Benchmark
+    public void addAndRemove(SharedList sharedList, Producer producer) {
+        Integer value = producer.nextValue++;
+        sharedList.list.add(value);
+        producer.added.add(value);
+        if (producer.added.size() > WINDOW) {
+            sharedList.list.remove(producer.added.poll());
+        }
+    }
+
+    @Threads(1)
+    public static class OneThread extends ConcurrentLinkedListBenchmark {
+    }
+
+    @Threads(2)
+    public static class TwoThreads extends ConcurrentLinkedListBenchmark {
+    }
+
+    @Threads(4)
+    public static class FourThreads extends ConcurrentLinkedListBenchmark {
+    }
+
+    @Threads(8)
+    public static class EightThreads extends ConcurrentLinkedListBenchmark {
+    }
+
+    @Threads(16)
+    public static class SixteenThreads extends ConcurrentLinkedListBenchmark {
+    }
+
+    private interface ListAdapter {
+        void add(Integer value);
+
+        void remove(Integer value);
+    }
+
+    private static class SynchronizedAdapter implements ListAdapter {
+        private final CustomLinkedList<Integer> list = new CustomLinkedList<>();
+
+        @Override
+        public synchronized void add(Integer value) {
+            list.add(value);
+        }
+
+        @Override
+        public synchronized void remove(Integer value) {
+            list.remove(value);
+        }
+    }
+
+    private static class LockFreeAdapter implements ListAdapter {
+        private final ConcurrentCustomLinkedList<Integer> list = new ConcurrentCustomLinkedList<>();
+
+        @Override
+        public void add(Integer value) {
+            list.add(value);
+        }
+
+        @Override
+        public void remove(Integer value) {
+            list.remove(value);
+        }
+    }
+
+    private static class DequeAdapter implements ListAdapter {
+        private final ConcurrentLinkedDeque<Integer> list = new ConcurrentLinkedDeque<>();
+
+        @Override
+        public void add(Integer value) {
+            list.add(value);
+        }
+
+        @Override
+        public void remove(Integer value) {
+            list.removeFirstOccurrence(value);
+        }
+    }
+}
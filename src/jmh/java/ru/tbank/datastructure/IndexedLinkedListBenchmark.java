@@ -0,0 +1,57 @@
+package ru.tbank.datastructure;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Рабочее множество с упорядочиванием: проверка вхождения и "remove + add в конец" для обычного
+ * и индексированного CustomLinkedList.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IndexedLinkedListBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean indexed;
+
+    private CustomLinkedList<Integer> linkedList;
+
+    @Setup
+    public void setup() {
+        linkedList = indexed ? CustomLinkedList.indexed() : new CustomLinkedList<>();
+        linkedList.addAll(IntStream.range(0, size).boxed().toList());
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return linkedList.contains(ThreadLocalRandom.current().nextInt(size * 2));
+    }
+
+    @Benchmark
+    public boolean moveToEnd() {
+        Integer element = ThreadLocalRandom.current().nextInt(size);
+        boolean removed = linkedList.remove(element);
+        linkedList.add(element);
+        return removed;
+    }
+}
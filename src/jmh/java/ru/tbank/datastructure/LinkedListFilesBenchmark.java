@@ -0,0 +1,98 @@
+package ru.tbank.datastructure;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сохранение и загрузка списка: двоичный формат CustomLinkedListFiles (полная загрузка и обход представления
+ * поверх отображенного файла) против Java-сериализации java.util.LinkedList.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LinkedListFilesBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private CustomLinkedList<Long> linkedList;
+    private LinkedList<Long> javaLinkedList;
+    private Path binaryFile;
+    private Path serializedFile;
+
+    @Setup
+    public void setup() throws IOException {
+        linkedList = new CustomLinkedList<>();
+        javaLinkedList = new LinkedList<>();
+        for (long i = 0; i < size; i++) {
+            linkedList.add(i);
+            javaLinkedList.add(i);
+        }
+        binaryFile = Files.createTempFile("custom-linked-list", ".bin");
+        serializedFile = Files.createTempFile("java-linked-list", ".ser");
+        CustomLinkedListFiles.write(linkedList, ElementCodec.ofLong(), binaryFile);
+        javaSerialize();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(binaryFile);
+        Files.deleteIfExists(serializedFile);
+    }
+
+    @Benchmark
+    public Path binaryWrite() throws IOException {
+        CustomLinkedListFiles.write(linkedList, ElementCodec.ofLong(), binaryFile);
+        return binaryFile;
+    }
+
+    @Benchmark
+    public CustomLinkedList<Long> binaryRead() throws IOException {
+        return CustomLinkedListFiles.read(binaryFile, ElementCodec.ofLong());
+    }
+
+    @Benchmark
+    public long mappedSum() throws IOException {
+        long sum = 0;
+        for (Long element : CustomLinkedListFiles.map(binaryFile, ElementCodec.ofLong())) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Path javaSerialize() throws IOException {
+        try (ObjectOutputStream output = new ObjectOutputStream(Files.newOutputStream(serializedFile))) {
+            output.writeObject(javaLinkedList);
+        }
+        return serializedFile;
+    }
+
+    @Benchmark
+    public Object javaDeserialize() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream input = new ObjectInputStream(Files.newInputStream(serializedFile))) {
+            return input.readObject();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package ru.tbank.datastructure;
+
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Печатает занимаемую списками память на элемент без учета самих элементов.
+ * Запуск: main-класс из jmh source set (нужен jol-core в classpath).
+ */
+public class LinkedListFootprint {
+
+    private static final int SIZE = 1_000_000;
+
+    public static void main(String[] args) {
+        List<Integer> elements = IntStream.range(0, SIZE).boxed().toList();
+        Object[] elementsArray = elements.toArray();
+        long elementsBytes = GraphLayout.parseInstance(elementsArray).totalSize() - VM.current().sizeOf(elementsArray);
+
+        CustomLinkedList<Integer> customLinkedList = new CustomLinkedList<>();
+        customLinkedList.addAll(elements);
+        UnrolledCustomLinkedList<Integer> unrolledLinkedList = new UnrolledCustomLinkedList<>();
+        unrolledLinkedList.addAll(elements);
+
+        print("CustomLinkedList", GraphLayout.parseInstance(customLinkedList).totalSize(), elementsBytes);
+        print("UnrolledCustomLinkedList", GraphLayout.parseInstance(unrolledLinkedList).totalSize(), elementsBytes);
+    }
+
+    private static void print(String name, long totalBytes, long elementsBytes) {
+        System.out.printf("%s: %.1f байт на элемент%n", name, (double) (totalBytes - elementsBytes) / SIZE);
+    }
+}
@@ -0,0 +1,62 @@
+package ru.tbank.datastructure;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Слияние двух списков: поэлементное копирование addAll против перевешивания узлов concat.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LinkedListMergeBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private List<Integer> elements;
+    private CustomLinkedList<Integer> first;
+    private CustomLinkedList<Integer> second;
+
+    @Setup(Level.Trial)
+    public void prepareElements() {
+        elements = IntStream.range(0, size).boxed().toList();
+    }
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        first = new CustomLinkedList<>();
+        first.addAll(elements);
+        second = new CustomLinkedList<>();
+        second.addAll(elements);
+    }
+
+    @Benchmark
+    public CustomLinkedList<Integer> addAll() {
+        first.addAll(second);
+        return first;
+    }
+
+    @Benchmark
+    public CustomLinkedList<Integer> concat() {
+        first.concat(second);
+        return first;
+    }
+}
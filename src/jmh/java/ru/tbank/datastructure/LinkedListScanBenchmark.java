@@ -0,0 +1,64 @@
+package ru.tbank.datastructure;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Полный проход contains() по отсутствующему элементу: обычный список из Node, развернутый список и ArrayList.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LinkedListScanBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private CustomLinkedList<Integer> customLinkedList;
+    private UnrolledCustomLinkedList<Integer> unrolledLinkedList;
+    private ArrayList<Integer> arrayList;
+    private Integer missingElement;
+
+    @Setup
+    public void setup() {
+        List<Integer> elements = IntStream.range(0, size).boxed().toList();
+        customLinkedList = new CustomLinkedList<>();
+        customLinkedList.addAll(elements);
+        unrolledLinkedList = new UnrolledCustomLinkedList<>();
+        unrolledLinkedList.addAll(elements);
+        arrayList = new ArrayList<>(elements);
+        missingElement = -1;
+    }
+
+    @Benchmark
+    public boolean customLinkedListContains() {
+        return customLinkedList.contains(missingElement);
+    }
+
+    @Benchmark
+    public boolean unrolledLinkedListContains() {
+        return unrolledLinkedList.contains(missingElement);
+    }
+
+    @Benchmark
+    public boolean arrayListContains() {
+        return arrayList.contains(missingElement);
+    }
+}
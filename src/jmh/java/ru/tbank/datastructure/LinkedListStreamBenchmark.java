@@ -0,0 +1,55 @@
+package ru.tbank.datastructure;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Фильтрация и агрегация CustomLinkedList последовательным и параллельным потоком.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LinkedListStreamBenchmark {
+
+    @Param({"1000000", "5000000"})
+    private int size;
+
+    private CustomLinkedList<Integer> linkedList;
+
+    @Setup
+    public void setup() {
+        linkedList = new CustomLinkedList<>();
+        linkedList.addAll(IntStream.range(0, size).boxed().toList());
+    }
+
+    @Benchmark
+    public long sequentialFilterSum() {
+        return linkedList.stream()
+                .filter(number -> Integer.bitCount(number) % 2 == 0)
+                .mapToLong(Integer::longValue)
+                .sum();
+    }
+
+    @Benchmark
+    public long parallelFilterSum() {
+        return linkedList.parallelStream()
+                .filter(number -> Integer.bitCount(number) % 2 == 0)
+                .mapToLong(Integer::longValue)
+                .sum();
+    }
+}
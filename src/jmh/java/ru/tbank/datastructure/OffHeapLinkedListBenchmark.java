@@ -0,0 +1,79 @@
+package ru.tbank.datastructure;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CustomLinkedList&lt;Long&gt; против OffHeapLinkedList&lt;Long&gt;: заполнение и поиск отсутствующего элемента.
+ * Давление на кучу удобнее смотреть с профилировщиком: {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OffHeapLinkedListBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private CustomLinkedList<Long> heapList;
+    private OffHeapLinkedList<Long> offHeapList;
+
+    @Setup
+    public void setup() {
+        heapList = new CustomLinkedList<>();
+        offHeapList = new OffHeapLinkedList<>(RecordCodec.ofLong());
+        for (long i = 0; i < size; i++) {
+            heapList.add(i);
+            offHeapList.add(i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        offHeapList.close();
+    }
+
+    @Benchmark
+    public int heapFill() {
+        CustomLinkedList<Long> list = new CustomLinkedList<>();
+        for (long i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list.size();
+    }
+
+    @Benchmark
+    public int offHeapFill() {
+        try (OffHeapLinkedList<Long> list = new OffHeapLinkedList<>(RecordCodec.ofLong())) {
+            for (long i = 0; i < size; i++) {
+                list.add(i);
+            }
+            return list.size();
+        }
+    }
+
+    @Benchmark
+    public boolean heapContains() {
+        return heapList.contains(-1L);
+    }
+
+    @Benchmark
+    public boolean offHeapContains() {
+        return offHeapList.contains(-1L);
+    }
+}
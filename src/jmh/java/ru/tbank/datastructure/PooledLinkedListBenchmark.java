@@ -0,0 +1,69 @@
+package ru.tbank.datastructure;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Очередеподобная нагрузка на CustomLinkedList с пулом узлов и без него: удаление из начала и добавление в конец,
+ * а также перезаполнение списка пачками через addAll. Скорость выделения памяти и число сборок видны
+ * с профилировщиком gc: {@code ./gradlew jmh -PjmhGcProfiler} (gc.alloc.rate.norm, gc.count).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xmx512m"})
+public class PooledLinkedListBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"0", "1024"})
+    private int poolSize;
+
+    private CustomLinkedList<Integer> linkedList;
+    private List<Integer> batch;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        linkedList = poolSize == 0 ? new CustomLinkedList<>() : CustomLinkedList.pooled(poolSize);
+        linkedList.addAll(IntStream.range(0, size).boxed().toList());
+        batch = IntStream.range(0, 256).boxed().toList();
+    }
+
+    @Benchmark
+    public Integer pollAndOffer() {
+        Iterator<Integer> iterator = linkedList.iterator();
+        Integer head = iterator.next();
+        iterator.remove();
+        linkedList.add(counter++ & 1023);
+        return head;
+    }
+
+    @Benchmark
+    public int drainAndRefill() {
+        Iterator<Integer> iterator = linkedList.iterator();
+        for (int i = 0; i < batch.size(); i++) {
+            iterator.next();
+            iterator.remove();
+        }
+        linkedList.addAll(batch);
+        return linkedList.size();
+    }
+}
@@ -0,0 +1,79 @@
+package ru.tbank.datastructure;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * CustomLinkedList&lt;Integer&gt; против IntLinkedList: заполнение, поиск отсутствующего элемента и суммирование.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PrimitiveLinkedListBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private int[] values;
+    private CustomLinkedList<Integer> boxedList;
+    private IntLinkedList intList;
+
+    @Setup
+    public void setup() {
+        values = IntStream.range(0, size).toArray();
+        boxedList = new CustomLinkedList<>();
+        intList = new IntLinkedList();
+        for (int value : values) {
+            boxedList.add(value);
+        }
+        intList.addAll(values);
+    }
+
+    @Benchmark
+    public CustomLinkedList<Integer> boxedFill() {
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public IntLinkedList primitiveFill() {
+        IntLinkedList list = new IntLinkedList();
+        list.addAll(values);
+        return list;
+    }
+
+    @Benchmark
+    public boolean boxedContains() {
+        return boxedList.contains(-1);
+    }
+
+    @Benchmark
+    public boolean primitiveContains() {
+        return intList.contains(-1);
+    }
+
+    @Benchmark
+    public long primitiveSum() {
+        long[] sum = new long[1];
+        intList.forEach(value -> sum[0] += value);
+        return sum[0];
+    }
+}
@@ -0,0 +1,55 @@
+package ru.tbank.datastructure;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * contains() по случайному ключу: линейный проход CustomLinkedList против поиска по skip list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SortedLinkedListBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private CustomLinkedList<Integer> customLinkedList;
+    private SortedCustomLinkedList<Integer> sortedLinkedList;
+
+    @Setup
+    public void setup() {
+        customLinkedList = new CustomLinkedList<>();
+        sortedLinkedList = SortedCustomLinkedList.naturalOrder();
+        IntStream.range(0, size).forEach(number -> {
+            customLinkedList.add(number);
+            sortedLinkedList.add(number);
+        });
+    }
+
+    @Benchmark
+    public boolean customLinkedListContains() {
+        return customLinkedList.contains(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    public boolean sortedLinkedListContains() {
+        return sortedLinkedList.contains(ThreadLocalRandom.current().nextInt(size));
+    }
+}
@@ -0,0 +1,89 @@
+package ru.tbank.hw2.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.tbank.hw2.model.City;
+import ru.tbank.hw2.model.Coordinates;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Стоимость одного вызова конвертера: новый ObjectMapper/XmlMapper на каждый вызов (как было в JsonConverter
+ * и XmlConverter) против закэшированных в JacksonMappers ObjectReader/ObjectWriter, а также пакет из 100
+ * объектов через один ObjectWriter. Сериализация идет в память, чтобы не измерять файловую систему.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MapperReuseBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    private byte[] cityJson;
+    private City city;
+    private List<City> cities;
+
+    @Setup
+    public void setup() {
+        cityJson = "{\"slug\": \"spb\", \"coords\": {\"lat\": 59.939095, \"lon\": 30.315868}}"
+                .getBytes(StandardCharsets.UTF_8);
+        city = new City("spb", new Coordinates(59.939095, 30.315868));
+        cities = IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> new City("city-" + i, new Coordinates(i, -i)))
+                .toList();
+    }
+
+    @Benchmark
+    public City readWithNewMapper() throws IOException {
+        return new ObjectMapper().readValue(cityJson, City.class);
+    }
+
+    @Benchmark
+    public City readWithCachedReader() throws IOException {
+        return JacksonMappers.jsonReaderFor(City.class).readValue(cityJson);
+    }
+
+    @Benchmark
+    public byte[] writeWithNewMapper() throws IOException {
+        return new XmlMapper().writeValueAsBytes(city);
+    }
+
+    @Benchmark
+    public byte[] writeWithCachedWriter() throws IOException {
+        return JacksonMappers.xmlWriterFor(City.class).writeValueAsBytes(city);
+    }
+
+    @Benchmark
+    public void writeBatchWithNewMappers(Blackhole blackhole) throws IOException {
+        for (City batchCity : cities) {
+            blackhole.consume(new XmlMapper().writeValueAsBytes(batchCity));
+        }
+    }
+
+    @Benchmark
+    public void writeBatchWithOneWriter(Blackhole blackhole) throws IOException {
+        ObjectWriter writer = JacksonMappers.xmlWriterFor(City.class);
+        for (City batchCity : cities) {
+            blackhole.consume(writer.writeValueAsBytes(batchCity));
+        }
+    }
+}
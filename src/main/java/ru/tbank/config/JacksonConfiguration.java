@@ -0,0 +1,18 @@
+package ru.tbank.config;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfiguration {
+
+    /**
+     * Spring Boot добавляет бины Module в ObjectMapper, который используют Spring MVC и RestTemplate KudaGo:
+     * Blackbird заменяет рефлексивный доступ к свойствам сгенерированными аксессорами.
+     */
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
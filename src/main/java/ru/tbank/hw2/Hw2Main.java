@@ -2,19 +2,34 @@ package ru.tbank.hw2;
 
 import lombok.extern.slf4j.Slf4j;
 import ru.tbank.hw2.model.City;
+import ru.tbank.hw2.util.DirectoryXmlConverter;
 import ru.tbank.hw2.util.JsonConverter;
+import ru.tbank.hw2.util.NdjsonReader;
 import ru.tbank.hw2.util.XmlConverter;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 @Slf4j
 public class Hw2Main {
 
+    /**
+     * Без аргументов запускает демонстрацию конвертеров. С аргументами {@code <каталог JSON> [каталог XML]
+     * [лимит одновременных файлов]} пакетно конвертирует каталог.
+     */
     public static void main(String[] args) {
         log.info("Начало работы приложения.");
+        if (args.length > 0) {
+            convertDirectory(args);
+            return;
+        }
         File correctFile = new File("./src/main/resources/hw2/city.json");
         File invalidFile = new File("./src/main/resources/hw2/city-error.json");
+        File citiesFile = new File("./src/main/resources/hw2/cities.json");
+        Path citiesNdjsonFile = Path.of("./src/main/resources/hw2/cities.ndjson");
 
         log.info("Начало конвертации корректного JSON файла в объект Город.");
         City correctCity = JsonConverter.convertJsonToPojo(correctFile, City.class);
@@ -46,5 +61,35 @@ public class Hw2Main {
             log.error(errorMessage);
             throw new IllegalArgumentException(errorMessage);
         }
+
+        log.info("Начало потоковой конвертации массива городов из JSON файла {} в XML файл.", citiesFile.getName());
+        File citiesXmlFile = XmlConverter.convertJsonArrayToXml(citiesFile, City.class);
+        if (Objects.nonNull(citiesXmlFile)) {
+            log.info("Массив городов был потоково сконвертирован в XML файл. Путь к файлу: {}.", citiesXmlFile.getPath());
+        } else {
+            String errorMessage = String.format("Произошла ошибка при потоковой конвертации файла %s в XML!", citiesFile.getName());
+            log.error(errorMessage);
+            throw new IllegalArgumentException(errorMessage);
+        }
+
+        log.info("Начало потокового чтения NDJSON файла {} с пропуском некорректных записей.", citiesNdjsonFile.getFileName());
+        try (Stream<City> cities = NdjsonReader.readRecords(citiesNdjsonFile, City.class)) {
+            List<String> slugs = cities.map(City::getSlug).toList();
+            log.info("Из NDJSON файла прочитано городов: {}. Slug: {}.", slugs.size(), slugs);
+        }
+    }
+
+    private static void convertDirectory(String[] args) {
+        Path inputDirectory = Path.of(args[0]);
+        Path outputDirectory = args.length > 1 ? Path.of(args[1]) : inputDirectory.resolveSibling(inputDirectory.getFileName() + "-xml");
+        int maxInFlight = args.length > 2 ? Integer.parseInt(args[2]) : DirectoryXmlConverter.DEFAULT_MAX_IN_FLIGHT;
+        DirectoryXmlConverter.BatchReport report = DirectoryXmlConverter.convertDirectory(inputDirectory, outputDirectory,
+                City.class, maxInFlight);
+        if (!report.failed().isEmpty()) {
+            String errorMessage = String.format("Не удалось сконвертировать %d из %d файлов каталога %s!",
+                    report.failed().size(), report.total(), inputDirectory);
+            log.error(errorMessage);
+            throw new IllegalStateException(errorMessage);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,143 @@
+package ru.tbank.hw2.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Пакетная конвертация каталога JSON файлов в XML: каталог обходится через NIO, каждый файл конвертируется
+ * отдельной задачей. Число одновременно обрабатываемых файлов ограничено семафором, поэтому обход каталога
+ * не уходит вперед конвертации. Задачи выполняются на виртуальных потоках, если они доступны (Java 21+),
+ * иначе - на пуле потоков размером с лимит.
+ */
+@Slf4j
+public class DirectoryXmlConverter {
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = 256;
+
+    public record BatchReport(int total, int converted, List<Path> failed, Duration elapsed) {
+
+        public double filesPerSecond() {
+            long millis = Math.max(elapsed.toMillis(), 1);
+            return total * 1000.0 / millis;
+        }
+    }
+
+    public static <T> BatchReport convertDirectory(Path inputDirectory, Path outputDirectory, Class<T> pojoClass) {
+        return convertDirectory(inputDirectory, outputDirectory, pojoClass, DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    /**
+     * Конвертирует все файлы *.json из каталога (включая подкаталоги) в одноименные XML файлы в выходном каталоге,
+     * повторяя структуру подкаталогов.
+     */
+    public static <T> BatchReport convertDirectory(Path inputDirectory, Path outputDirectory, Class<T> pojoClass,
+                                                   int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Лимит одновременно конвертируемых файлов должен быть положительным.");
+        }
+        log.info("Начало пакетной конвертации каталога {} в каталог {} (лимит одновременных файлов: {}).",
+                inputDirectory, outputDirectory, maxInFlight);
+        long startNanos = System.nanoTime();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        AtomicInteger converted = new AtomicInteger();
+        Queue<Path> failed = new ConcurrentLinkedQueue<>();
+        int total = 0;
+        ExecutorService executor = newPerFileExecutor(maxInFlight);
+        try (Stream<Path> files = Files.walk(inputDirectory)) {
+            Iterator<Path> iterator = files
+                    .filter(path -> Files.isRegularFile(path) && path.getFileName().toString().endsWith(".json"))
+                    .iterator();
+            while (iterator.hasNext()) {
+                Path jsonFile = iterator.next();
+                Path xmlFile = outputDirectory.resolve(inputDirectory.relativize(jsonFile).toString()
+                        .replaceFirst("\\.json$", ".xml"));
+                inFlight.acquire();
+                total++;
+                executor.execute(() -> {
+                    try {
+                        if (convertFile(jsonFile, xmlFile, pojoClass)) {
+                            converted.incrementAndGet();
+                        } else {
+                            failed.add(jsonFile);
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } catch (IOException e) {
+            log.warn("Ошибка обхода каталога {}, конвертация остановлена после {} файлов.", inputDirectory, total, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Пакетная конвертация каталога {} прервана после {} файлов.", inputDirectory, total);
+        } finally {
+            awaitCompletion(executor);
+        }
+        BatchReport report = new BatchReport(total, converted.get(), new ArrayList<>(failed),
+                Duration.ofNanos(System.nanoTime() - startNanos));
+        log.info("Пакетная конвертация каталога {} завершена за {} мс: файлов {}, успешно {}, с ошибкой {}, {} файлов/с.",
+                inputDirectory, report.elapsed().toMillis(), report.total(), report.converted(), report.failed().size(),
+                String.format("%.1f", report.filesPerSecond()));
+        if (!report.failed().isEmpty()) {
+            log.warn("Файлы, которые не удалось сконвертировать: {}.", report.failed());
+        }
+        return report;
+    }
+
+    private static <T> boolean convertFile(Path jsonFile, Path xmlFile, Class<T> pojoClass) {
+        try {
+            Path parent = xmlFile.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            File result = XmlConverter.convertJsonArrayToXml(jsonFile.toFile(), xmlFile.toFile(), pojoClass);
+            return result != null;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Не удалось сконвертировать файл {}.", jsonFile, e);
+            return false;
+        }
+    }
+
+    /**
+     * Executors.newVirtualThreadPerTaskExecutor() вызывается через рефлексию, чтобы код собирался и работал на Java 17.
+     */
+    private static ExecutorService newPerFileExecutor(int maxInFlight) {
+        try {
+            Object executor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            log.debug("Файлы конвертируются на виртуальных потоках.");
+            return (ExecutorService) executor;
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            log.debug("Виртуальные потоки недоступны, файлы конвертируются на пуле из {} потоков.", maxInFlight);
+            return Executors.newFixedThreadPool(maxInFlight);
+        }
+    }
+
+    private static void awaitCompletion(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.debug("Ожидание завершения конвертации оставшихся файлов.");
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
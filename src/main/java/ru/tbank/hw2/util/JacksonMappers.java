@@ -0,0 +1,64 @@
+package ru.tbank.hw2.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Общие для всех конвертеров экземпляры ObjectMapper и XmlMapper и кэш ObjectReader/ObjectWriter по классу.
+ * Маппер настраивается один раз и дальше только используется, поэтому потокобезопасен; ObjectReader
+ * и ObjectWriter неизменяемы. За счет этого кэши сериализаторов и десериализаторов Jackson заполняются
+ * один раз, а не на каждый вызов конвертера. Доступ к свойствам ускорен модулем Blackbird
+ * (сгенерированные через LambdaMetafactory аксессоры вместо рефлексии).
+ */
+public final class JacksonMappers {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper().registerModule(new BlackbirdModule());
+    private static final XmlMapper XML_MAPPER = createXmlMapper();
+
+    private static final ConcurrentHashMap<Class<?>, ObjectReader> JSON_READERS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Class<?>, ObjectWriter> XML_WRITERS = new ConcurrentHashMap<>();
+
+    private JacksonMappers() {
+    }
+
+    public static ObjectMapper jsonMapper() {
+        return JSON_MAPPER;
+    }
+
+    public static XmlMapper xmlMapper() {
+        return XML_MAPPER;
+    }
+
+    public static ObjectReader jsonReaderFor(Class<?> pojoClass) {
+        ObjectReader reader = JSON_READERS.get(pojoClass);
+        if (reader != null) {
+            return reader;
+        }
+        return JSON_READERS.computeIfAbsent(pojoClass, JSON_MAPPER::readerFor);
+    }
+
+    public static ObjectWriter xmlWriterFor(Class<?> pojoClass) {
+        ObjectWriter writer = XML_WRITERS.get(pojoClass);
+        if (writer != null) {
+            return writer;
+        }
+        return XML_WRITERS.computeIfAbsent(pojoClass, XML_MAPPER::writerFor);
+    }
+
+    /**
+     * Сброс буфера после каждого значения отключен: при потоковой записи многих объектов в один генератор
+     * он превращается в системный вызов на каждую запись, а при записи в файл генератор и так закрывается.
+     */
+    private static XmlMapper createXmlMapper() {
+        XmlMapper xmlMapper = new XmlMapper();
+        xmlMapper.registerModule(new BlackbirdModule());
+        xmlMapper.disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return xmlMapper;
+    }
+}
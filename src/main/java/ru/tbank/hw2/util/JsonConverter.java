@@ -1,22 +1,44 @@
 package ru.tbank.hw2.util;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 @Slf4j
 public class JsonConverter {
 
     public static <T> T convertJsonToPojo(File file, Class<T> pojoClass) {
-        ObjectMapper objectMapper = new ObjectMapper();
+        return convertJsonToPojo(file, pojoClass, JacksonMappers.jsonReaderFor(pojoClass));
+    }
+
+    /**
+     * Пакетная конвертация: все файлы читаются одним ObjectReader. Файлы, которые не удалось
+     * десериализовать, пропускаются (ошибка логируется).
+     */
+    public static <T> List<T> convertJsonToPojos(Collection<File> files, Class<T> pojoClass) {
+        ObjectReader reader = JacksonMappers.jsonReaderFor(pojoClass);
+        List<T> pojos = new ArrayList<>(files.size());
+        for (File file : files) {
+            T pojo = convertJsonToPojo(file, pojoClass, reader);
+            if (pojo != null) {
+                pojos.add(pojo);
+            }
+        }
+        log.debug("Пакетно сконвертировано {} из {} JSON файлов в POJO объекты ({}).", pojos.size(), files.size(),
+                pojoClass.getSimpleName());
+        return pojos;
+    }
+
+    private static <T> T convertJsonToPojo(File file, Class<T> pojoClass, ObjectReader reader) {
         try {
             log.debug("Начало конвертации JSON файла с названием {} в POJO объект с названием класса: {}.",
                     file.getName(), pojoClass.getSimpleName());
-            JsonNode cityNode = objectMapper.readTree(file);
-            var pojo = objectMapper.treeToValue(cityNode, pojoClass);
+            T pojo = reader.readValue(file);
             log.debug("JSON Файл {} был успешно сконвертирован в POJO объект ({}).", file.getName(), pojoClass.getSimpleName());
             return pojo;
         } catch (IOException e) {
@@ -0,0 +1,174 @@
+package ru.tbank.hw2.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Чтение файлов в формате NDJSON (один JSON объект на строку). Записи читаются и десериализуются лениво,
+ * по одной строке за раз. Некорректная запись не прерывает чтение: она пропускается, а ошибка с номером строки
+ * и смещением в байтах от начала файла передается обработчику.
+ */
+@Slf4j
+public class NdjsonReader {
+
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    public record RecordError(long lineNumber, long byteOffset, String message) {
+    }
+
+    /**
+     * Ошибки в записях только логируются.
+     */
+    public static <T> Stream<T> readRecords(Path file, Class<T> pojoClass) {
+        return readRecords(file, pojoClass, error -> log.warn("Запись в строке {} (смещение {} байт) файла {} пропущена: {}",
+                error.lineNumber(), error.byteOffset(), file.getFileName(), error.message()));
+    }
+
+    /**
+     * Возвращает ленивый поток записей; поток держит файл открытым и должен быть закрыт (try-with-resources).
+     */
+    public static <T> Stream<T> readRecords(Path file, Class<T> pojoClass, Consumer<RecordError> errorHandler) {
+        log.debug("Начало потокового чтения NDJSON файла {} в объекты класса {}.", file.getFileName(), pojoClass.getSimpleName());
+        InputStream input;
+        try {
+            input = Files.newInputStream(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Не удалось открыть NDJSON файл %s.", file), e);
+        }
+        RecordIterator<T> iterator = new RecordIterator<>(input, JacksonMappers.jsonReaderFor(pojoClass), errorHandler);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        input.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * Делит входной поток на строки по байту '\n', сохраняя смещение начала каждой строки,
+     * и десериализует строку прямо из байтового буфера.
+     */
+    private static class RecordIterator<T> implements Iterator<T> {
+        private final InputStream input;
+        private final ObjectReader reader;
+        private final Consumer<RecordError> errorHandler;
+        private final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+        private int readPosition;
+        private int readLimit;
+        private byte[] line = new byte[256];
+        private int lineLength;
+        private long lineNumber;
+        private long offset;
+        private boolean endOfInput;
+        private T next;
+
+        RecordIterator(InputStream input, ObjectReader reader, Consumer<RecordError> errorHandler) {
+            this.input = input;
+            this.reader = reader;
+            this.errorHandler = errorHandler;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !endOfInput) {
+                long lineOffset = offset;
+                if (!readLine()) {
+                    endOfInput = true;
+                    break;
+                }
+                lineNumber++;
+                if (isBlank()) {
+                    continue;
+                }
+                try {
+                    next = reader.readValue(line, 0, lineLength);
+                    if (next == null) {
+                        errorHandler.accept(new RecordError(lineNumber, lineOffset, "запись равна null"));
+                    }
+                } catch (JsonProcessingException e) {
+                    errorHandler.accept(new RecordError(lineNumber, lineOffset, e.getOriginalMessage()));
+                } catch (IOException e) {
+                    errorHandler.accept(new RecordError(lineNumber, lineOffset, e.getMessage()));
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T record = next;
+            next = null;
+            return record;
+        }
+
+        private boolean readLine() {
+            lineLength = 0;
+            boolean readAny = false;
+            while (true) {
+                if (readPosition == readLimit && !fill()) {
+                    return readAny;
+                }
+                readAny = true;
+                int start = readPosition;
+                while (readPosition < readLimit && readBuffer[readPosition] != '\n') {
+                    readPosition++;
+                }
+                append(start, readPosition - start);
+                offset += readPosition - start;
+                if (readPosition < readLimit) {
+                    readPosition++;
+                    offset++;
+                    return true;
+                }
+            }
+        }
+
+        private boolean fill() {
+            try {
+                int read = input.read(readBuffer);
+                readPosition = 0;
+                readLimit = Math.max(read, 0);
+                return read > 0;
+            } catch (IOException e) {
+                throw new UncheckedIOException(String.format("Ошибка чтения NDJSON файла после строки %d.", lineNumber), e);
+            }
+        }
+
+        private void append(int start, int length) {
+            if (lineLength + length > line.length) {
+                line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+            }
+            System.arraycopy(readBuffer, start, line, lineLength, length);
+            lineLength += length;
+        }
+
+        private boolean isBlank() {
+            for (int i = 0; i < lineLength; i++) {
+                if (!Character.isWhitespace(line[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -1,23 +1,55 @@
 package ru.tbank.hw2.util;
 
-import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import lombok.extern.slf4j.Slf4j;
 
+import javax.xml.namespace.QName;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
 public class XmlConverter {
     public static <T> File convertPojoToXml(T pojo) {
+        return convertPojoToXml(pojo, JacksonMappers.xmlWriterFor(pojo.getClass()));
+    }
+
+    /**
+     * Пакетная конвертация объектов одного класса: все файлы пишутся одним ObjectWriter. Объекты, которые
+     * не удалось сконвертировать, пропускаются (ошибка логируется).
+     */
+    public static <T> List<File> convertPojosToXml(Collection<? extends T> pojos, Class<T> pojoClass) {
+        ObjectWriter writer = JacksonMappers.xmlWriterFor(pojoClass);
+        List<File> files = new ArrayList<>(pojos.size());
+        for (T pojo : pojos) {
+            File file = convertPojoToXml(pojo, writer);
+            if (file != null) {
+                files.add(file);
+            }
+        }
+        log.debug("Пакетно сконвертировано {} из {} POJO объектов (класс {}) в XML файлы.", files.size(), pojos.size(),
+                pojoClass.getSimpleName());
+        return files;
+    }
+
+    private static <T> File convertPojoToXml(T pojo, ObjectWriter writer) {
         try {
             log.debug("Начало конвертации POJO объекта (класс {}) в XML файл.", pojo.getClass().getSimpleName());
-            XmlMapper xmlMapper = new XmlMapper();
             String pathToFile = "./src/main/resources/hw2/";
             String fileName = String.format("%s-%s.xml", pojo.getClass().getSimpleName(),
                     UUID.randomUUID());
             log.debug("Название будущего XML файла: {}. Путь к сохранению файла: {}.", fileName, pathToFile);
             File file = new File(pathToFile + fileName);
-            xmlMapper.writeValue(file, pojo);
+            writer.writeValue(file, pojo);
             log.debug("POJO объект (класс {}) был успешно сконвертирован в XML файл (находится по пути: {}).",
                     pojo.getClass().getSimpleName(), pathToFile + fileName);
             return file;
@@ -27,4 +59,70 @@ public class XmlConverter {
             return null;
         }
     }
+
+    /**
+     * Потоково конвертирует JSON массив объектов (или один объект) в XML файл вида
+     * {@code <CityList><City>...</City>...</CityList>}: JsonParser читает по одной записи, она сразу
+     * пишется в ToXmlGenerator, поэтому в памяти одновременно находится только одна запись вне зависимости
+     * от размера файла. Имена полей берутся из аннотаций модели, как и в {@link #convertPojoToXml(Object)}.
+     */
+    public static <T> File convertJsonArrayToXml(File jsonFile, Class<T> pojoClass) {
+        String pathToFile = "./src/main/resources/hw2/";
+        String fileName = String.format("%sList-%s.xml", pojoClass.getSimpleName(), UUID.randomUUID());
+        return convertJsonArrayToXml(jsonFile, new File(pathToFile + fileName), pojoClass);
+    }
+
+    public static <T> File convertJsonArrayToXml(File jsonFile, File xmlFile, Class<T> pojoClass) {
+        log.debug("Начало потоковой конвертации JSON файла {} в XML файл {} (класс записей {}).",
+                jsonFile.getName(), xmlFile.getPath(), pojoClass.getSimpleName());
+        ObjectReader reader = JacksonMappers.jsonReaderFor(pojoClass);
+        ObjectWriter writer = JacksonMappers.xmlWriterFor(pojoClass);
+        String elementName = pojoClass.getSimpleName();
+        long records = 0;
+        try (JsonParser parser = reader.createParser(jsonFile);
+             ToXmlGenerator generator = JacksonMappers.xmlMapper().getFactory().createGenerator(xmlFile, JsonEncoding.UTF8)) {
+            generator.setNextName(new QName(elementName + "List"));
+            generator.writeStartObject();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                writeRecord(parser, generator, reader, writer, elementName);
+                records++;
+            } else if (token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    writeRecord(parser, generator, reader, writer, elementName);
+                    records++;
+                }
+                if (parser.currentToken() != JsonToken.END_ARRAY) {
+                    throw new IOException(String.format("Ожидался объект или конец массива, получено: %s.",
+                            parser.currentToken()));
+                }
+            } else {
+                throw new IOException(String.format("Ожидался JSON массив или объект, получено: %s.", token));
+            }
+            generator.writeEndObject();
+            log.debug("JSON файл {} был потоково сконвертирован в XML файл {}. Количество записей: {}.",
+                    jsonFile.getName(), xmlFile.getPath(), records);
+            return xmlFile;
+        } catch (IOException e) {
+            log.warn("В процессе потоковой конвертации JSON файла {} в XML произошла ошибка после {} записей, файл не был сохранен.",
+                    jsonFile.getName(), records, e);
+            deleteQuietly(xmlFile);
+            return null;
+        }
+    }
+
+    private static <T> void writeRecord(JsonParser parser, ToXmlGenerator generator, ObjectReader reader,
+                                        ObjectWriter writer, String elementName) throws IOException {
+        T record = reader.readValue(parser);
+        generator.writeFieldName(elementName);
+        writer.writeValue(generator, record);
+    }
+
+    private static void deleteQuietly(File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            log.warn("Не удалось удалить частично записанный файл {}.", file.getPath(), e);
+        }
+    }
 }
@@ -0,0 +1,224 @@
+package ru.tbank.datastructure;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Потокобезопасный неблокирующий вариант {@link CustomLinkedList}.
+ * <p>
+ * Добавление в конец - CAS на ссылке next последнего узла с последующим продвижением tail (как в очереди
+ * Michael–Scott). Удаление по Harris: узел сначала логически удаляется - в его next через CAS ставится
+ * узел-маркер, после чего узел физически вырезается из цепочки; вырезать помеченные узлы помогают все потоки,
+ * проходящие мимо. Маркер здесь играет роль бита в ссылке next: к помеченному узлу нельзя ничего присоединить.
+ * Итерация и size() слабо согласованы.
+ */
+public class ConcurrentCustomLinkedList<T> implements Iterable<T> {
+
+    private static final VarHandle NEXT;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+            TAIL = lookup.findVarHandle(ConcurrentCustomLinkedList.class, "tail", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Node<T> head = new Node<>(null);
+    private volatile Node<T> tail = head;
+    private final AtomicInteger size = new AtomicInteger();
+
+    public void add(T element) {
+        Node<T> node = new Node<>(element);
+        link(node, node);
+        size.incrementAndGet();
+    }
+
+    /**
+     * Присоединяет все элементы одной CAS-операцией: цепочка узлов собирается заранее и не видна другим потокам.
+     */
+    public void addAll(List<T> elementsList) {
+        if (elementsList.isEmpty()) {
+            return;
+        }
+        Node<T> first = null;
+        Node<T> last = null;
+        int count = 0;
+        for (T element : elementsList) {
+            Node<T> node = new Node<>(element);
+            if (first == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            count++;
+        }
+        link(first, last);
+        size.addAndGet(count);
+    }
+
+    public void addAll(ConcurrentCustomLinkedList<T> elementsList) {
+        List<T> snapshot = new ArrayList<>();
+        elementsList.forEach(snapshot::add);
+        addAll(snapshot);
+    }
+
+    public boolean remove(T element) {
+        retry:
+        while (true) {
+            Node<T> pred = head;
+            Node<T> curr = pred.next;
+            while (curr != null) {
+                Node<T> succ = curr.next;
+                if (succ != null && succ.marker) {
+                    if (!NEXT.compareAndSet(pred, curr, succ.next)) {
+                        continue retry;
+                    }
+                    curr = succ.next;
+                    continue;
+                }
+                if (Objects.equals(curr.element, element)) {
+                    if (!NEXT.compareAndSet(curr, succ, Node.marker(succ))) {
+                        continue retry;
+                    }
+                    size.decrementAndGet();
+                    NEXT.compareAndSet(pred, curr, succ);
+                    return true;
+                }
+                pred = curr;
+                curr = succ;
+            }
+            return false;
+        }
+    }
+
+    public boolean contains(T element) {
+        for (Node<T> curr = head.next; curr != null; curr = successor(curr)) {
+            if (!curr.isDeleted() && Objects.equals(curr.element, element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return Math.max(0, size.get());
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new WeaklyConsistentIterator();
+    }
+
+    private void link(Node<T> first, Node<T> last) {
+        while (true) {
+            Node<T> t = tail;
+            Node<T> next = t.next;
+            if (next == null) {
+                if (NEXT.compareAndSet(t, null, first)) {
+                    TAIL.compareAndSet(this, t, last);
+                    return;
+                }
+            } else if (next.marker) {
+                TAIL.compareAndSet(this, t, findLast());
+            } else {
+                TAIL.compareAndSet(this, t, next);
+            }
+        }
+    }
+
+    /**
+     * Медленный путь для случая, когда tail указывает на удаленный узел: проходит список с головы,
+     * вырезая помеченные узлы, и возвращает последний живой узел.
+     */
+    private Node<T> findLast() {
+        retry:
+        while (true) {
+            Node<T> pred = head;
+            Node<T> curr = pred.next;
+            while (curr != null) {
+                Node<T> succ = curr.next;
+                if (succ != null && succ.marker) {
+                    if (!NEXT.compareAndSet(pred, curr, succ.next)) {
+                        continue retry;
+                    }
+                    curr = succ.next;
+                    continue;
+                }
+                pred = curr;
+                curr = succ;
+            }
+            return pred;
+        }
+    }
+
+    private static <T> Node<T> successor(Node<T> node) {
+        Node<T> next = node.next;
+        return next != null && next.marker ? next.next : next;
+    }
+
+    private class WeaklyConsistentIterator implements Iterator<T> {
+        private Node<T> nextNode = advance(head);
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public T next() {
+            if (nextNode == null) {
+                throw new NoSuchElementException();
+            }
+            T element = nextNode.element;
+            nextNode = advance(nextNode);
+            return element;
+        }
+
+        private Node<T> advance(Node<T> from) {
+            Node<T> curr = successor(from);
+            while (curr != null && curr.isDeleted()) {
+                curr = successor(curr);
+            }
+            return curr;
+        }
+    }
+
+    private static class Node<T> {
+        private final T element;
+        private final boolean marker;
+        private volatile Node<T> next;
+
+        Node(T element) {
+            this(element, false, null);
+        }
+
+        private Node(T element, boolean marker, Node<T> next) {
+            this.element = element;
+            this.marker = marker;
+            this.next = next;
+        }
+
+        /**
+         * Создает маркер удаления, ссылающийся на следующий за удаляемым узел.
+         */
+        static <T> Node<T> marker(Node<T> next) {
+            return new Node<>(null, true, next);
+        }
+
+        boolean isDeleted() {
+            Node<T> successor = next;
+            return successor != null && successor.marker;
+        }
+    }
+}
@@ -3,22 +3,73 @@ package ru.tbank.datastructure;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 
-public class CustomLinkedList<T> {
+public class CustomLinkedList<T> extends AbstractCollection<T> {
     private Node<T> head;
     private Node<T> tail;
     private int size;
+    private int modCount;
+    private final NodeIndex<T> nodeIndex;
+    private final NodePool<T> nodePool;
 
     public CustomLinkedList() {
         head = null;
         tail = null;
         size = 0;
+        nodeIndex = null;
+        nodePool = null;
     }
 
-    public void add(T element) {
-        Node<T> newNode = new Node<>(element);
+    private CustomLinkedList(NodeIndex<T> nodeIndex, NodePool<T> nodePool) {
+        this.nodeIndex = nodeIndex;
+        this.nodePool = nodePool;
+    }
+
+    /**
+     * Создает список с хеш-индексом элемент -> узлы: contains и remove(Object) работают за O(1),
+     * порядок вставки и дубликаты сохраняются. Цена - память под индекс и O(k) вместо O(1)
+     * для concat/splitAt, где k - количество переносимых элементов. Элементы не должны менять
+     * hashCode/equals, пока находятся в списке.
+     */
+    public static <T> CustomLinkedList<T> indexed() {
+        return new CustomLinkedList<>(new NodeIndex<>(), null);
+    }
+
+    /**
+     * Создает список, который не отдает удаленные узлы сборщику мусора, а хранит до {@code maxPooledNodes}
+     * из них и переиспользует при следующих добавлениях. Полезно при очередеподобной нагрузке
+     * (добавление в конец, удаление из начала), когда иначе каждый узел живет недолго и сразу становится мусором.
+     */
+    public static <T> CustomLinkedList<T> pooled(int maxPooledNodes) {
+        if (maxPooledNodes < 1) {
+            throw new IllegalArgumentException("Размер пула узлов должен быть положительным.");
+        }
+        return new CustomLinkedList<>(null, new NodePool<>(maxPooledNodes));
+    }
+
+    public boolean isIndexed() {
+        return nodeIndex != null;
+    }
+
+    public boolean isPooled() {
+        return nodePool != null;
+    }
+
+    @Override
+    public boolean add(T element) {
+        Node<T> newNode = newNode(element);
         Node<T> prev = tail;
         tail = newNode;
         if (Objects.isNull(prev)) {
@@ -28,63 +79,189 @@ public class CustomLinkedList<T> {
             newNode.setPrevious(prev);
         }
         size++;
+        modCount++;
+        if (nodeIndex != null) {
+            nodeIndex.add(newNode);
+        }
+        return true;
     }
 
-    public void remove(T element) {
-        if (head == null) {
-            return;
-        }
-        if (head.getElement().equals(element)) {
-            head = head.getNext();
-            if (head != null) {
-                head.setPrevious(null);
+    @Override
+    public boolean remove(Object element) {
+        if (nodeIndex != null) {
+            Node<T> first = nodeIndex.first(element);
+            if (first == null) {
+                return false;
             }
-            size--;
-            return;
+            unlink(first);
+            return true;
         }
-
         Node<T> current = head;
-        while (current != null && !current.getElement().equals(element)) {
+        while (current != null && !Objects.equals(current.getElement(), element)) {
             current = current.getNext();
         }
+        if (current == null) {
+            return false;
+        }
+        unlink(current);
+        return true;
+    }
 
-        if (current != null) {
-            Node<T> prev = current.getPrevious();
-            Node<T> next = current.getNext();
-            if (prev != null) {
-                prev.setNext(next);
+    /**
+     * Собирает цепочку новых узлов целиком (сначала из пула, затем подряд выделяя недостающие)
+     * и присоединяет ее к концу списка одной операцией.
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> elements) {
+        Node<T> first = null;
+        Node<T> last = null;
+        int count = 0;
+        for (T element : elements) {
+            Node<T> node = newNode(element);
+            if (first == null) {
+                first = node;
+            } else {
+                last.setNext(node);
+                node.setPrevious(last);
             }
-            if (next != null) {
-                next.setPrevious(prev);
-            }
-            if (current == tail) {
-                tail = prev;
+            last = node;
+            count++;
+        }
+        if (first == null) {
+            return false;
+        }
+        if (tail == null) {
+            head = first;
+        } else {
+            tail.setNext(first);
+            first.setPrevious(tail);
+        }
+        tail = last;
+        size += count;
+        modCount++;
+        if (nodeIndex != null) {
+            for (Node<T> node = first; node != null; node = node.getNext()) {
+                nodeIndex.add(node);
             }
-            size--;
         }
+        return true;
     }
 
-    public void addAll(List<T> elementsList) {
-        for (T element : elementsList) {
-            add(element);
+    public boolean addAll(CustomLinkedList<? extends T> elementsList) {
+        Node<? extends T> currentElement = elementsList.head;
+        int remaining = elementsList.size;
+        while (Objects.nonNull(currentElement) && remaining-- > 0) {
+            add(currentElement.getElement());
+            currentElement = currentElement.getNext();
         }
+        return elementsList.size > 0;
     }
 
-    public void addAll(CustomLinkedList<T> elementsList) {
-        Node<T> currentElement = elementsList.head;
-        if (Objects.isNull(currentElement)) {
+    /**
+     * Перевешивает узлы переданного списка в конец текущего за O(1), переданный список становится пустым.
+     */
+    public void concat(CustomLinkedList<T> elementsList) {
+        if (elementsList == this) {
+            throw new IllegalArgumentException("Нельзя присоединить список сам к себе.");
+        }
+        if (elementsList.head == null) {
             return;
         }
-        while (Objects.nonNull(currentElement.getNext())) {
-            add(currentElement.getElement());
-            currentElement = currentElement.getNext();
+        if (tail == null) {
+            head = elementsList.head;
+        } else {
+            tail.setNext(elementsList.head);
+            elementsList.head.setPrevious(tail);
         }
+        if (nodeIndex != null) {
+            for (Node<T> node = elementsList.head; node != null; node = node.getNext()) {
+                nodeIndex.add(node);
+            }
+        }
+        tail = elementsList.tail;
+        size += elementsList.size;
+        modCount++;
+        elementsList.clear();
+    }
+
+    /**
+     * Переносит все элементы текущего списка в конец переданного за O(1), текущий список становится пустым.
+     */
+    public void transferTo(CustomLinkedList<T> target) {
+        target.concat(this);
     }
 
-    public boolean contains(T element) {
+    /**
+     * Отрезает элементы начиная с индекса {@code index} в новый список без копирования узлов.
+     * Поиск точки разреза идет с ближайшего конца списка, сам разрез выполняется за O(1)
+     * (для индексированного списка - за O(k), где k - размер отрезанной части).
+     */
+    public CustomLinkedList<T> splitAt(int index) {
+        Objects.checkIndex(index, size + 1);
+        CustomLinkedList<T> suffix = new CustomLinkedList<>(
+                nodeIndex == null ? null : new NodeIndex<>(),
+                nodePool == null ? null : new NodePool<>(nodePool.capacity));
+        if (index == size) {
+            return suffix;
+        }
+        Node<T> splitNode = node(index);
+        if (nodeIndex != null) {
+            for (Node<T> node = splitNode; node != null; node = node.getNext()) {
+                nodeIndex.remove(node);
+                suffix.nodeIndex.add(node);
+            }
+        }
+        Node<T> prev = splitNode.getPrevious();
+        suffix.head = splitNode;
+        suffix.tail = tail;
+        suffix.size = size - index;
+        splitNode.setPrevious(null);
+        if (prev == null) {
+            head = null;
+            tail = null;
+        } else {
+            prev.setNext(null);
+            tail = prev;
+        }
+        size = index;
+        modCount++;
+        return suffix;
+    }
+
+    /**
+     * Возвращает представление элементов с {@code fromIndex} (включительно) по {@code toIndex} (не включительно)
+     * поверх узлов текущего списка. После структурного изменения исходного списка представление
+     * выбрасывает {@link ConcurrentModificationException}.
+     */
+    public SubList subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        return new SubList(fromIndex == size ? null : node(fromIndex), toIndex - fromIndex);
+    }
+
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return node(index).getElement();
+    }
+
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+        if (nodeIndex != null) {
+            nodeIndex.clear();
+        }
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        if (nodeIndex != null) {
+            return nodeIndex.first(element) != null;
+        }
         Node<T> current = head;
         while (current != null) {
-            if (current.getElement().equals(element)) {
+            if (Objects.equals(current.getElement(), element)) {
                 return true;
             }
             current = current.getNext();
@@ -92,10 +269,347 @@ public class CustomLinkedList<T> {
         return false;
     }
 
+    @Override
     public int size() {
         return size;
     }
 
+    @Override
+    public Iterator<T> iterator() {
+        return new NodeIterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new NodeSpliterator(head, size, modCount);
+    }
+
+    private void unlink(Node<T> node) {
+        Node<T> prev = node.getPrevious();
+        Node<T> next = node.getNext();
+        if (prev == null) {
+            head = next;
+        } else {
+            prev.setNext(next);
+        }
+        if (next == null) {
+            tail = prev;
+        } else {
+            next.setPrevious(prev);
+        }
+        size--;
+        modCount++;
+        if (nodeIndex != null) {
+            nodeIndex.remove(node);
+        }
+        if (nodePool != null) {
+            nodePool.release(node);
+        }
+    }
+
+    private Node<T> newNode(T element) {
+        return nodePool == null ? new Node<>(element) : nodePool.obtain(element);
+    }
+
+    private Node<T> node(int index) {
+        if (index < size / 2) {
+            Node<T> current = head;
+            for (int i = 0; i < index; i++) {
+                current = current.getNext();
+            }
+            return current;
+        }
+        Node<T> current = tail;
+        for (int i = size - 1; i > index; i--) {
+            current = current.getPrevious();
+        }
+        return current;
+    }
+
+    private class NodeIterator implements Iterator<T> {
+        private Node<T> next = head;
+        private Node<T> lastReturned;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = next.getNext();
+            return lastReturned.getElement();
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * Делит список пакетами, как LinkedList из JDK: каждое разбиение копирует в массив следующий пакет узлов,
+     * который растет арифметически на {@link #BATCH_UNIT}. Обход узлов распределяется между разбиением
+     * и обработкой уже отданных пакетов, а не выполняется целиком до начала параллельной работы,
+     * как при делении пополам. Размеры обеих частей известны точно, поэтому поток остается SIZED/SUBSIZED.
+     */
+    private class NodeSpliterator implements Spliterator<T> {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+
+        private Node<T> current;
+        private int remaining;
+        private int batch;
+        private final int expectedModCount;
+
+        NodeSpliterator(Node<T> current, int remaining, int expectedModCount) {
+            this.current = current;
+            this.remaining = remaining;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (remaining == 0) {
+                return false;
+            }
+            T element = current.getElement();
+            current = current.getNext();
+            remaining--;
+            action.accept(element);
+            checkForComodification();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Node<T> node = current;
+            for (int i = remaining; i > 0; i--) {
+                action.accept(node.getElement());
+                node = node.getNext();
+            }
+            current = node;
+            remaining = 0;
+            checkForComodification();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (remaining <= 1) {
+                return null;
+            }
+            int batchSize = Math.min(Math.min(batch + BATCH_UNIT, remaining), MAX_BATCH);
+            Object[] elements = new Object[batchSize];
+            Node<T> node = current;
+            for (int i = 0; i < batchSize; i++) {
+                elements[i] = node.getElement();
+                node = node.getNext();
+            }
+            checkForComodification();
+            current = node;
+            remaining -= batchSize;
+            batch = batchSize;
+            return Spliterators.spliterator(elements, 0, batchSize, Spliterator.ORDERED);
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    public class SubList {
+        private final Node<T> first;
+        private final int size;
+        private final int expectedModCount;
+
+        private SubList(Node<T> first, int size) {
+            this.first = first;
+            this.size = size;
+            this.expectedModCount = modCount;
+        }
+
+        public T get(int index) {
+            return node(index).getElement();
+        }
+
+        public T set(int index, T element) {
+            Node<T> node = node(index);
+            T previous = node.getElement();
+            if (nodeIndex != null) {
+                nodeIndex.remove(node);
+                node.setElement(element);
+                nodeIndex.insert(node);
+            } else {
+                node.setElement(element);
+            }
+            return previous;
+        }
+
+        public boolean contains(T element) {
+            checkForComodification();
+            Node<T> current = first;
+            for (int i = 0; i < size; i++) {
+                if (Objects.equals(current.getElement(), element)) {
+                    return true;
+                }
+                current = current.getNext();
+            }
+            return false;
+        }
+
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        public List<T> toList() {
+            checkForComodification();
+            List<T> elements = new ArrayList<>(size);
+            Node<T> current = first;
+            for (int i = 0; i < size; i++) {
+                elements.add(current.getElement());
+                current = current.getNext();
+            }
+            return elements;
+        }
+
+        private Node<T> node(int index) {
+            checkForComodification();
+            Objects.checkIndex(index, size);
+            Node<T> current = first;
+            for (int i = 0; i < index; i++) {
+                current = current.getNext();
+            }
+            return current;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Индекс элемент -> узлы с этим элементом в порядке следования в списке.
+     */
+    private static class NodeIndex<T> {
+        private final HashMap<Object, ArrayList<Node<T>>> nodesByElement = new HashMap<>();
+
+        Node<T> first(Object element) {
+            ArrayList<Node<T>> nodes = nodesByElement.get(element);
+            return nodes == null ? null : nodes.get(0);
+        }
+
+        /**
+         * Добавляет узел, присоединенный в конец списка: он идет после всех узлов с тем же элементом.
+         */
+        void add(Node<T> node) {
+            nodesByElement.computeIfAbsent(node.getElement(), element -> new ArrayList<>(1)).add(node);
+        }
+
+        /**
+         * Добавляет узел из середины списка: позиция среди узлов с тем же элементом определяется
+         * количеством таких узлов перед ним.
+         */
+        void insert(Node<T> node) {
+            int position = 0;
+            for (Node<T> current = node.getPrevious(); current != null; current = current.getPrevious()) {
+                if (Objects.equals(current.getElement(), node.getElement())) {
+                    position++;
+                }
+            }
+            nodesByElement.computeIfAbsent(node.getElement(), element -> new ArrayList<>(1)).add(position, node);
+        }
+
+        void remove(Node<T> node) {
+            ArrayList<Node<T>> nodes = nodesByElement.get(node.getElement());
+            if (nodes == null) {
+                return;
+            }
+            for (int i = 0; i < nodes.size(); i++) {
+                if (nodes.get(i) == node) {
+                    nodes.remove(i);
+                    break;
+                }
+            }
+            if (nodes.isEmpty()) {
+                nodesByElement.remove(node.getElement());
+            }
+        }
+
+        void clear() {
+            nodesByElement.clear();
+        }
+    }
+
+    /**
+     * Ограниченный пул свободных узлов, связанных через поле next. Узел очищается при возврате в пул,
+     * чтобы не удерживать элемент и соседей. Очистка списка узлы в пул не возвращает: clear() остается O(1),
+     * а после concat узлы принадлежат другому списку.
+     */
+    private static class NodePool<T> {
+        private final int capacity;
+        private Node<T> free;
+        private int count;
+
+        NodePool(int capacity) {
+            this.capacity = capacity;
+        }
+
+        Node<T> obtain(T element) {
+            Node<T> node = free;
+            if (node == null) {
+                return new Node<>(element);
+            }
+            free = node.getNext();
+            count--;
+            node.setNext(null);
+            node.setElement(element);
+            return node;
+        }
+
+        void release(Node<T> node) {
+            node.setElement(null);
+            node.setPrevious(null);
+            if (count == capacity) {
+                node.setNext(null);
+                return;
+            }
+            node.setNext(free);
+            free = node;
+            count++;
+        }
+    }
+
     @Getter
     @Setter
     static class Node<T> {
@@ -0,0 +1,128 @@
+package ru.tbank.datastructure;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+
+/**
+ * Компактный двоичный формат для {@link CustomLinkedList}: заголовок [int magic][int version][int size],
+ * затем записи [int length][length байт], length = -1 означает null. Запись идет последовательно через
+ * {@link FileChannel}, без рекурсии по графу узлов, как при Java-сериализации. Чтение отображает файл
+ * в память участками до {@link #DEFAULT_REGION_SIZE} байт, поэтому читаются и файлы больше 2 ГБ:
+ * {@link #map} дает представление, декодирующее элементы на лету, {@link #read} сразу собирает список.
+ */
+public final class CustomLinkedListFiles {
+
+    static final int MAGIC = 0x434C4C53;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 3 * Integer.BYTES;
+    static final int NULL_LENGTH = -1;
+    public static final int DEFAULT_REGION_SIZE = 1 << 30;
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private CustomLinkedListFiles() {
+    }
+
+    public static <T> void write(Collection<? extends T> elements, ElementCodec<? super T> codec, Path path)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(elements.size());
+            int written = 0;
+            for (T element : elements) {
+                buffer = writeRecord(channel, buffer, element, codec);
+                written++;
+            }
+            if (written != elements.size()) {
+                throw new IOException("Количество записанных элементов не совпадает с размером списка.");
+            }
+            flush(channel, buffer);
+        }
+    }
+
+    /**
+     * Отображает файл в память и возвращает представление поверх него: элементы декодируются при обходе,
+     * сам список в куче не строится, пока не будет вызван {@link MappedLinkedList#toCustomLinkedList()}.
+     */
+    public static <T> MappedLinkedList<T> map(Path path, ElementCodec<T> codec) throws IOException {
+        return map(path, codec, DEFAULT_REGION_SIZE);
+    }
+
+    /**
+     * То же, что {@link #map(Path, ElementCodec)}, но файл отображается участками по regionSize байт.
+     * Записи, пересекающие границу участков, при чтении копируются в кучу.
+     */
+    public static <T> MappedLinkedList<T> map(Path path, ElementCodec<T> codec, int regionSize) throws IOException {
+        if (regionSize <= 0) {
+            throw new IllegalArgumentException("Размер участка отображения должен быть положительным.");
+        }
+        ByteBuffer[] regions;
+        long fileSize;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                throw new IOException(String.format("Файл %s не содержит заголовка списка.", path));
+            }
+            regions = new ByteBuffer[(int) ((fileSize + regionSize - 1) / regionSize)];
+            for (int i = 0; i < regions.length; i++) {
+                long start = (long) i * regionSize;
+                regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(regionSize, fileSize - start));
+            }
+        }
+        if (MappedLinkedList.readInt(regions, regionSize, 0) != MAGIC
+                || MappedLinkedList.readInt(regions, regionSize, Integer.BYTES) != VERSION) {
+            throw new IOException(String.format("Файл %s не является сериализованным списком.", path));
+        }
+        int size = MappedLinkedList.readInt(regions, regionSize, 2 * Integer.BYTES);
+        if (size < 0) {
+            throw new IOException(String.format("Файл %s содержит некорректный размер списка: %d.", path, size));
+        }
+        return new MappedLinkedList<>(regions, regionSize, fileSize, size, codec);
+    }
+
+    public static <T> CustomLinkedList<T> read(Path path, ElementCodec<T> codec) throws IOException {
+        return map(path, codec).toCustomLinkedList();
+    }
+
+    /**
+     * Пишет запись в буфер; если она не помещается, сбрасывает буфер в канал и повторяет попытку,
+     * а для записи больше всего буфера увеличивает его.
+     */
+    private static <T> ByteBuffer writeRecord(FileChannel channel, ByteBuffer buffer, T element,
+                                              ElementCodec<? super T> codec) throws IOException {
+        while (true) {
+            int start = buffer.position();
+            try {
+                if (element == null) {
+                    buffer.putInt(NULL_LENGTH);
+                } else {
+                    buffer.putInt(0);
+                    codec.encode(element, buffer);
+                    buffer.putInt(start, buffer.position() - start - Integer.BYTES);
+                }
+                return buffer;
+            } catch (BufferOverflowException e) {
+                buffer.position(start);
+                if (start == 0) {
+                    buffer = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+                } else {
+                    flush(channel, buffer);
+                }
+            }
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,78 @@
+package ru.tbank.datastructure;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Кодек элемента переменной длины для {@link CustomLinkedListFiles}. Длину записи хранит сам формат файла,
+ * поэтому кодек только пишет байты элемента с текущей позиции буфера и читает их обратно из буфера,
+ * ограниченного одной записью. null-элементы кодеку не передаются.
+ */
+public interface ElementCodec<T> {
+
+    void encode(T element, ByteBuffer target);
+
+    T decode(ByteBuffer source);
+
+    static ElementCodec<Integer> ofInt() {
+        return new ElementCodec<>() {
+            @Override
+            public void encode(Integer element, ByteBuffer target) {
+                target.putInt(element);
+            }
+
+            @Override
+            public Integer decode(ByteBuffer source) {
+                return source.getInt();
+            }
+        };
+    }
+
+    static ElementCodec<Long> ofLong() {
+        return new ElementCodec<>() {
+            @Override
+            public void encode(Long element, ByteBuffer target) {
+                target.putLong(element);
+            }
+
+            @Override
+            public Long decode(ByteBuffer source) {
+                return source.getLong();
+            }
+        };
+    }
+
+    static ElementCodec<Double> ofDouble() {
+        return new ElementCodec<>() {
+            @Override
+            public void encode(Double element, ByteBuffer target) {
+                target.putDouble(element);
+            }
+
+            @Override
+            public Double decode(ByteBuffer source) {
+                return source.getDouble();
+            }
+        };
+    }
+
+    static ElementCodec<String> ofString() {
+        return new ElementCodec<>() {
+            @Override
+            public void encode(String element, ByteBuffer target) {
+                target.put(element.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public String decode(ByteBuffer source) {
+                if (source.hasArray()) {
+                    String decoded = new String(source.array(), source.arrayOffset() + source.position(),
+                            source.remaining(), StandardCharsets.UTF_8);
+                    source.position(source.limit());
+                    return decoded;
+                }
+                return StandardCharsets.UTF_8.decode(source).toString();
+            }
+        };
+    }
+}
@@ -0,0 +1,195 @@
+package ru.tbank.datastructure;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * Связный список значений int без упаковки: элементы хранятся блоками в массивах int[],
+ * как в {@link UnrolledCustomLinkedList}.
+ */
+public class IntLinkedList {
+
+    public static final int DEFAULT_CHUNK_CAPACITY = 64;
+
+    private final int chunkCapacity;
+    private Chunk head;
+    private Chunk tail;
+    private int size;
+
+    public IntLinkedList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    public IntLinkedList(int chunkCapacity) {
+        if (chunkCapacity < 2) {
+            throw new IllegalArgumentException("Емкость блока должна быть не меньше 2.");
+        }
+        this.chunkCapacity = chunkCapacity;
+    }
+
+    public void add(int element) {
+        if (tail == null || tail.count == chunkCapacity) {
+            appendChunk();
+        }
+        tail.elements[tail.count++] = element;
+        size++;
+    }
+
+    public void remove(int element) {
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            int[] elements = chunk.elements;
+            for (int i = 0; i < chunk.count; i++) {
+                if (elements[i] == element) {
+                    removeFromChunk(chunk, i);
+                    return;
+                }
+            }
+        }
+    }
+
+    public int removeAt(int index) {
+        Objects.checkIndex(index, size);
+        Chunk chunk = head;
+        while (index >= chunk.count) {
+            index -= chunk.count;
+            chunk = chunk.next;
+        }
+        int removed = chunk.elements[index];
+        removeFromChunk(chunk, index);
+        return removed;
+    }
+
+    public void addAll(int[] elements) {
+        appendArray(elements, elements.length);
+    }
+
+    public void addAll(IntLinkedList elementsList) {
+        int remaining = elementsList.size;
+        for (Chunk chunk = elementsList.head; chunk != null && remaining > 0; chunk = chunk.next) {
+            int count = Math.min(chunk.count, remaining);
+            appendArray(chunk.elements, count);
+            remaining -= count;
+        }
+    }
+
+    public boolean contains(int element) {
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            int[] elements = chunk.elements;
+            for (int i = 0; i < chunk.count; i++) {
+                if (elements[i] == element) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        Chunk chunk = head;
+        while (index >= chunk.count) {
+            index -= chunk.count;
+            chunk = chunk.next;
+        }
+        return chunk.elements[index];
+    }
+
+    public void forEach(IntConsumer action) {
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            int[] elements = chunk.elements;
+            for (int i = 0; i < chunk.count; i++) {
+                action.accept(elements[i]);
+            }
+        }
+    }
+
+    public int[] toArray() {
+        int[] result = new int[size];
+        int position = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            System.arraycopy(chunk.elements, 0, result, position, chunk.count);
+            position += chunk.count;
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private void appendArray(int[] source, int length) {
+        int copied = 0;
+        while (copied < length) {
+            if (tail == null || tail.count == chunkCapacity) {
+                appendChunk();
+            }
+            int batch = Math.min(chunkCapacity - tail.count, length - copied);
+            System.arraycopy(source, copied, tail.elements, tail.count, batch);
+            tail.count += batch;
+            size += batch;
+            copied += batch;
+        }
+    }
+
+    private void appendChunk() {
+        Chunk chunk = new Chunk(chunkCapacity);
+        if (tail == null) {
+            head = chunk;
+        } else {
+            tail.next = chunk;
+            chunk.previous = tail;
+        }
+        tail = chunk;
+    }
+
+    private void removeFromChunk(Chunk chunk, int index) {
+        int moved = chunk.count - index - 1;
+        if (moved > 0) {
+            System.arraycopy(chunk.elements, index + 1, chunk.elements, index, moved);
+        }
+        chunk.count--;
+        size--;
+        if (chunk.count == 0) {
+            unlink(chunk);
+            return;
+        }
+        Chunk next = chunk.next;
+        if (next != null && chunk.count < chunkCapacity / 2 && chunk.count + next.count <= chunkCapacity) {
+            System.arraycopy(next.elements, 0, chunk.elements, chunk.count, next.count);
+            chunk.count += next.count;
+            unlink(next);
+        }
+    }
+
+    private void unlink(Chunk chunk) {
+        Chunk previous = chunk.previous;
+        Chunk next = chunk.next;
+        if (previous == null) {
+            head = next;
+        } else {
+            previous.next = next;
+        }
+        if (next == null) {
+            tail = previous;
+        } else {
+            next.previous = previous;
+        }
+    }
+
+    private static class Chunk {
+        private final int[] elements;
+        private int count;
+        private Chunk next;
+        private Chunk previous;
+
+        Chunk(int capacity) {
+            this.elements = new int[capacity];
+        }
+    }
+}
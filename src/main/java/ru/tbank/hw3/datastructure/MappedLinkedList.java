@@ -0,0 +1,133 @@
+package ru.tbank.datastructure;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Неизменяемое представление списка, сохраненного {@link CustomLinkedListFiles#write}, поверх отображенного
+ * в память файла. Файл отображается несколькими участками, позиции записей считаются в long, поэтому размер
+ * файла не ограничен 2 ГБ. Элементы декодируются при каждом обходе, страницы файла подгружает операционная система.
+ */
+public class MappedLinkedList<T> extends AbstractCollection<T> {
+
+    private final ByteBuffer[] regions;
+    private final int regionSize;
+    private final long fileSize;
+    private final int size;
+    private final ElementCodec<T> codec;
+
+    MappedLinkedList(ByteBuffer[] regions, int regionSize, long fileSize, int size, ElementCodec<T> codec) {
+        this.regions = regions;
+        this.regionSize = regionSize;
+        this.fileSize = fileSize;
+        this.size = size;
+        this.codec = codec;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new RecordIterator();
+    }
+
+    /**
+     * Декодирует все элементы в обычный {@link CustomLinkedList}: узлы собираются одной цепочкой.
+     */
+    public CustomLinkedList<T> toCustomLinkedList() {
+        CustomLinkedList<T> linkedList = new CustomLinkedList<>();
+        linkedList.addAll(this);
+        return linkedList;
+    }
+
+    static int readInt(ByteBuffer[] regions, int regionSize, long offset) {
+        ByteBuffer region = regions[(int) (offset / regionSize)];
+        int position = (int) (offset % regionSize);
+        if (position <= region.capacity() - Integer.BYTES) {
+            return region.getInt(position);
+        }
+        ByteBuffer value = ByteBuffer.allocate(Integer.BYTES);
+        copy(regions, regionSize, offset, value);
+        return value.getInt(0);
+    }
+
+    /**
+     * Копирует байты, начиная с offset, до заполнения target, переходя через границы участков.
+     */
+    private static void copy(ByteBuffer[] regions, int regionSize, long offset, ByteBuffer target) {
+        while (target.hasRemaining()) {
+            ByteBuffer region = regions[(int) (offset / regionSize)];
+            int position = (int) (offset % regionSize);
+            int count = Math.min(target.remaining(), region.capacity() - position);
+            target.put(target.position(), region, position, count);
+            target.position(target.position() + count);
+            offset += count;
+        }
+    }
+
+    private class RecordIterator implements Iterator<T> {
+        private final ByteBuffer[] views = new ByteBuffer[regions.length];
+        private long offset = CustomLinkedListFiles.HEADER_SIZE;
+        private int remaining = size;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public T next() {
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            if (offset > fileSize - Integer.BYTES) {
+                throw corrupted();
+            }
+            int length = readInt(regions, regionSize, offset);
+            offset += Integer.BYTES;
+            remaining--;
+            if (length == CustomLinkedListFiles.NULL_LENGTH) {
+                return null;
+            }
+            if (length < 0 || length > fileSize - offset) {
+                throw corrupted();
+            }
+            ByteBuffer record = record(offset, length);
+            offset += length;
+            return codec.decode(record);
+        }
+
+        /**
+         * Запись внутри одного участка декодируется прямо из отображенной памяти, запись на границе
+         * участков копируется.
+         */
+        private ByteBuffer record(long start, int length) {
+            if (length == 0) {
+                return ByteBuffer.allocate(0);
+            }
+            int regionIndex = (int) (start / regionSize);
+            int position = (int) (start % regionSize);
+            if (position <= regions[regionIndex].capacity() - length) {
+                ByteBuffer view = views[regionIndex];
+                if (view == null) {
+                    view = regions[regionIndex].duplicate();
+                    views[regionIndex] = view;
+                }
+                view.limit(position + length).position(position);
+                return view;
+            }
+            ByteBuffer record = ByteBuffer.allocate(length);
+            copy(regions, regionSize, start, record);
+            return record.flip();
+        }
+
+        private IllegalStateException corrupted() {
+            return new IllegalStateException(String.format("Файл списка поврежден: некорректная запись по смещению %d.", offset));
+        }
+    }
+}
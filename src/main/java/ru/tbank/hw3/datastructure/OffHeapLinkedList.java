@@ -0,0 +1,307 @@
+package ru.tbank.datastructure;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Вариант {@link CustomLinkedList}, хранящий узлы вне кучи в слэбах direct ByteBuffer.
+ * Узел - это [int next][int previous][запись фиксированного размера], ссылки на соседей - номера узлов,
+ * поэтому сборщик мусора не видит ни узлов, ни ссылок между ними. Освободившиеся узлы переиспользуются
+ * через список свободных узлов. Память слэбов освобождается явно в {@link #close()}.
+ */
+public class OffHeapLinkedList<T> extends AbstractCollection<T> implements AutoCloseable {
+
+    public static final int DEFAULT_NODES_PER_SLAB_SHIFT = 16;
+
+    private static final int NIL = -1;
+    private static final int NEXT_OFFSET = 0;
+    private static final int PREVIOUS_OFFSET = Integer.BYTES;
+    private static final int RECORD_OFFSET = 2 * Integer.BYTES;
+
+    private final RecordCodec<T> codec;
+    private final int nodeSize;
+    private final int nodesPerSlabShift;
+    private final int slabIndexMask;
+    private final List<ByteBuffer> slabs = new ArrayList<>();
+    private int allocatedNodes;
+    private int freeHead = NIL;
+    private int head = NIL;
+    private int tail = NIL;
+    private int size;
+    private int modCount;
+    private boolean closed;
+
+    public OffHeapLinkedList(RecordCodec<T> codec) {
+        this(codec, DEFAULT_NODES_PER_SLAB_SHIFT);
+    }
+
+    public OffHeapLinkedList(RecordCodec<T> codec, int nodesPerSlabShift) {
+        if (nodesPerSlabShift < 1 || nodesPerSlabShift > 24) {
+            throw new IllegalArgumentException("Размер слэба должен быть от 2^1 до 2^24 узлов.");
+        }
+        this.codec = Objects.requireNonNull(codec);
+        this.nodeSize = RECORD_OFFSET + codec.size();
+        if ((long) nodeSize << nodesPerSlabShift > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Размер слэба превышает 2 ГБ, уменьшите количество узлов в слэбе.");
+        }
+        this.nodesPerSlabShift = nodesPerSlabShift;
+        this.slabIndexMask = (1 << nodesPerSlabShift) - 1;
+    }
+
+    @Override
+    public boolean add(T element) {
+        ensureOpen();
+        int node = allocateNode();
+        codec.write(slab(node), offset(node) + RECORD_OFFSET, element);
+        setNext(node, NIL);
+        setPrevious(node, tail);
+        if (tail == NIL) {
+            head = node;
+        } else {
+            setNext(tail, node);
+        }
+        tail = node;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> elements) {
+        for (T element : elements) {
+            add(element);
+        }
+        return !elements.isEmpty();
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        int node = find(element);
+        if (node == NIL) {
+            return false;
+        }
+        unlink(node);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return find(element) != NIL;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        ensureOpen();
+        return new NodeIterator();
+    }
+
+    @Override
+    public void clear() {
+        ensureOpen();
+        int node = head;
+        while (node != NIL) {
+            int next = getNext(node);
+            release(node);
+            node = next;
+        }
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Объем выделенной вне кучи памяти в байтах.
+     */
+    public long offHeapBytes() {
+        return (long) slabs.size() * (1L << nodesPerSlabShift) * nodeSize;
+    }
+
+    /**
+     * Освобождает слэбы сразу, не дожидаясь сборки мусора. После закрытия список использовать нельзя.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (ByteBuffer slab : slabs) {
+            DirectBufferCleaner.clean(slab);
+        }
+        slabs.clear();
+        head = NIL;
+        tail = NIL;
+        freeHead = NIL;
+        size = 0;
+        modCount++;
+    }
+
+    private int find(Object element) {
+        ensureOpen();
+        for (int node = head; node != NIL; node = getNext(node)) {
+            if (codec.matches(slab(node), offset(node) + RECORD_OFFSET, element)) {
+                return node;
+            }
+        }
+        return NIL;
+    }
+
+    private void unlink(int node) {
+        int previous = getPrevious(node);
+        int next = getNext(node);
+        if (previous == NIL) {
+            head = next;
+        } else {
+            setNext(previous, next);
+        }
+        if (next == NIL) {
+            tail = previous;
+        } else {
+            setPrevious(next, previous);
+        }
+        release(node);
+        size--;
+        modCount++;
+    }
+
+    private int allocateNode() {
+        if (freeHead != NIL) {
+            int node = freeHead;
+            freeHead = getNext(node);
+            return node;
+        }
+        if (allocatedNodes == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Превышено максимальное количество узлов списка.");
+        }
+        int node = allocatedNodes++;
+        if ((node >>> nodesPerSlabShift) == slabs.size()) {
+            slabs.add(ByteBuffer.allocateDirect((1 << nodesPerSlabShift) * nodeSize).order(ByteOrder.nativeOrder()));
+        }
+        return node;
+    }
+
+    private void release(int node) {
+        setNext(node, freeHead);
+        freeHead = node;
+    }
+
+    private ByteBuffer slab(int node) {
+        return slabs.get(node >>> nodesPerSlabShift);
+    }
+
+    private int offset(int node) {
+        return (node & slabIndexMask) * nodeSize;
+    }
+
+    private int getNext(int node) {
+        return slab(node).getInt(offset(node) + NEXT_OFFSET);
+    }
+
+    private void setNext(int node, int next) {
+        slab(node).putInt(offset(node) + NEXT_OFFSET, next);
+    }
+
+    private int getPrevious(int node) {
+        return slab(node).getInt(offset(node) + PREVIOUS_OFFSET);
+    }
+
+    private void setPrevious(int node, int previous) {
+        slab(node).putInt(offset(node) + PREVIOUS_OFFSET, previous);
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Список уже закрыт.");
+        }
+    }
+
+    private class NodeIterator implements Iterator<T> {
+        private int next = head;
+        private int lastReturned = NIL;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next != NIL;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next == NIL) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = getNext(next);
+            return codec.read(slab(lastReturned), offset(lastReturned) + RECORD_OFFSET);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == NIL) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            unlink(lastReturned);
+            lastReturned = NIL;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * Явное освобождение памяти direct ByteBuffer через sun.misc.Unsafe#invokeCleaner (модуль jdk.unsupported).
+     * Если метод недоступен, память вернется после сборки мусора.
+     */
+    private static class DirectBufferCleaner {
+        private static final Object UNSAFE;
+        private static final Method INVOKE_CLEANER;
+
+        static {
+            Object unsafe = null;
+            Method invokeCleaner = null;
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                unsafe = theUnsafe.get(null);
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                unsafe = null;
+                invokeCleaner = null;
+            }
+            UNSAFE = unsafe;
+            INVOKE_CLEANER = invokeCleaner;
+        }
+
+        static void clean(ByteBuffer buffer) {
+            if (INVOKE_CLEANER == null) {
+                return;
+            }
+            try {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } catch (ReflectiveOperationException e) {
+                // память освободится при сборке мусора
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package ru.tbank.datastructure;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Кодек записи фиксированного размера для {@link OffHeapLinkedList}.
+ */
+public interface RecordCodec<T> {
+
+    int size();
+
+    void write(ByteBuffer buffer, int offset, T element);
+
+    T read(ByteBuffer buffer, int offset);
+
+    /**
+     * Сравнивает запись с элементом. Кодеки примитивов переопределяют метод, чтобы не создавать объект на каждом шаге.
+     */
+    default boolean matches(ByteBuffer buffer, int offset, Object element) {
+        return Objects.equals(read(buffer, offset), element);
+    }
+
+    static RecordCodec<Integer> ofInt() {
+        return new RecordCodec<>() {
+            @Override
+            public int size() {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Integer element) {
+                buffer.putInt(offset, element);
+            }
+
+            @Override
+            public Integer read(ByteBuffer buffer, int offset) {
+                return buffer.getInt(offset);
+            }
+
+            @Override
+            public boolean matches(ByteBuffer buffer, int offset, Object element) {
+                return element instanceof Integer value && buffer.getInt(offset) == value;
+            }
+        };
+    }
+
+    static RecordCodec<Long> ofLong() {
+        return new RecordCodec<>() {
+            @Override
+            public int size() {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Long element) {
+                buffer.putLong(offset, element);
+            }
+
+            @Override
+            public Long read(ByteBuffer buffer, int offset) {
+                return buffer.getLong(offset);
+            }
+
+            @Override
+            public boolean matches(ByteBuffer buffer, int offset, Object element) {
+                return element instanceof Long value && buffer.getLong(offset) == value;
+            }
+        };
+    }
+
+    static RecordCodec<Double> ofDouble() {
+        return new RecordCodec<>() {
+            @Override
+            public int size() {
+                return Double.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Double element) {
+                buffer.putDouble(offset, element);
+            }
+
+            @Override
+            public Double read(ByteBuffer buffer, int offset) {
+                return buffer.getDouble(offset);
+            }
+
+            @Override
+            public boolean matches(ByteBuffer buffer, int offset, Object element) {
+                return element instanceof Double value
+                        && Double.doubleToLongBits(buffer.getDouble(offset)) == Double.doubleToLongBits(value);
+            }
+        };
+    }
+}
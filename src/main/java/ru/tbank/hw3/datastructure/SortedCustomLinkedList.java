@@ -0,0 +1,311 @@
+package ru.tbank.datastructure;
+
+import java.util.AbstractCollection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Отсортированный вариант {@link CustomLinkedList} на основе вероятностного skip list.
+ * Нижний уровень - обычный двусвязный список в порядке компаратора (равные элементы идут в порядке вставки),
+ * верхние уровни - разреженные ссылки вперед для поиска за O(log n).
+ */
+public class SortedCustomLinkedList<T> extends AbstractCollection<T> {
+
+    private static final int MAX_LEVEL = 32;
+
+    private final Comparator<? super T> comparator;
+    private final Node<T> head = new Node<>(null, MAX_LEVEL);
+    private Node<T> tail;
+    private int level = 1;
+    private int size;
+    private int modCount;
+
+    public SortedCustomLinkedList(Comparator<? super T> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+    }
+
+    public static <T extends Comparable<? super T>> SortedCustomLinkedList<T> naturalOrder() {
+        return new SortedCustomLinkedList<>(Comparator.naturalOrder());
+    }
+
+    @Override
+    public boolean add(T element) {
+        int nodeLevel = randomLevel();
+        Node<T>[] update = newUpdateArray(Math.max(level, nodeLevel));
+        Node<T> pred = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (pred.next[i] != null && comparator.compare(pred.next[i].element, element) <= 0) {
+                pred = pred.next[i];
+            }
+            update[i] = pred;
+        }
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                update[i] = head;
+            }
+            level = nodeLevel;
+        }
+        Node<T> node = new Node<>(element, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+        }
+        node.previous = update[0] == head ? null : update[0];
+        if (node.next[0] == null) {
+            tail = node;
+        } else {
+            node.next[0].previous = node;
+        }
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        Node<T> node = findEqual(element);
+        if (node == null) {
+            return false;
+        }
+        unlink(node);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return findEqual(element) != null;
+    }
+
+    /**
+     * Наибольший элемент, не превосходящий переданный, или null.
+     */
+    public T floor(T element) {
+        Node<T> node = findLastNotGreater(element);
+        return node == head ? null : node.element;
+    }
+
+    /**
+     * Наименьший элемент, не меньший переданного, или null.
+     */
+    public T ceiling(T element) {
+        Node<T> node = findFirstNotLess(element);
+        return node == null ? null : node.element;
+    }
+
+    public T first() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return head.next[0].element;
+    }
+
+    public T last() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return tail.element;
+    }
+
+    /**
+     * Элементы от {@code fromInclusive} (включительно) до {@code toExclusive} (не включительно) в порядке
+     * компаратора. Начало диапазона ищется за O(log n), дальше идет проход по нижнему уровню.
+     */
+    public Iterable<T> range(T fromInclusive, T toExclusive) {
+        return () -> new NodeIterator(findFirstNotLess(fromInclusive), toExclusive);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new NodeIterator(head.next[0], null);
+    }
+
+    /**
+     * Обход в обратном порядке по ссылкам previous нижнего уровня.
+     */
+    public Iterator<T> descendingIterator() {
+        return new Iterator<>() {
+            private Node<T> next = tail;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                T element = next.element;
+                next = next.previous;
+                return element;
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            head.next[i] = null;
+        }
+        tail = null;
+        level = 1;
+        size = 0;
+        modCount++;
+    }
+
+    public Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Узел с элементом, равным переданному по компаратору, или null. Несравнимый тип обнаруживается только
+     * при сравнении с элементами списка, поэтому ClassCastException ловится вокруг самого поиска.
+     */
+    @SuppressWarnings("unchecked")
+    private Node<T> findEqual(Object element) {
+        try {
+            T key = (T) element;
+            Node<T> node = findFirstNotLess(key);
+            return node != null && comparator.compare(node.element, key) == 0 ? node : null;
+        } catch (ClassCastException e) {
+            return null;
+        }
+    }
+
+    private Node<T> findFirstNotLess(T element) {
+        Node<T> pred = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (pred.next[i] != null && comparator.compare(pred.next[i].element, element) < 0) {
+                pred = pred.next[i];
+            }
+        }
+        return pred.next[0];
+    }
+
+    private Node<T> findLastNotGreater(T element) {
+        Node<T> pred = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (pred.next[i] != null && comparator.compare(pred.next[i].element, element) <= 0) {
+                pred = pred.next[i];
+            }
+        }
+        return pred;
+    }
+
+    /**
+     * Вырезает конкретный узел: на каждом уровне ищется предшественник среди элементов, меньших удаляемого,
+     * затем среди равных ему - до самого узла.
+     */
+    private void unlink(Node<T> node) {
+        Node<T> pred = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (pred.next[i] != null && comparator.compare(pred.next[i].element, node.element) < 0) {
+                pred = pred.next[i];
+            }
+            if (i < node.next.length) {
+                Node<T> levelPred = pred;
+                while (levelPred.next[i] != node) {
+                    levelPred = levelPred.next[i];
+                }
+                levelPred.next[i] = node.next[i];
+            }
+        }
+        if (node.next[0] == null) {
+            tail = node.previous;
+        } else {
+            node.next[0].previous = node.previous;
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        modCount++;
+    }
+
+    private static int randomLevel() {
+        int randomBits = ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1));
+        return Math.min(Integer.numberOfTrailingZeros(randomBits) + 1, MAX_LEVEL);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] newUpdateArray(int length) {
+        return (Node<T>[]) new Node[length];
+    }
+
+    private class NodeIterator implements Iterator<T> {
+        private Node<T> next;
+        private Node<T> lastReturned;
+        private final T toExclusive;
+        private int expectedModCount = modCount;
+
+        NodeIterator(Node<T> first, T toExclusive) {
+            this.toExclusive = toExclusive;
+            this.next = first;
+            trimToRange();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = next.next[0];
+            trimToRange();
+            return lastReturned.element;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private void trimToRange() {
+            if (next != null && toExclusive != null && comparator.compare(next.element, toExclusive) >= 0) {
+                next = null;
+            }
+        }
+    }
+
+    private static class Node<T> {
+        private final T element;
+        private final Node<T>[] next;
+        private Node<T> previous;
+
+        @SuppressWarnings("unchecked")
+        Node(T element, int level) {
+            this.element = element;
+            this.next = (Node<T>[]) new Node[level];
+        }
+    }
+}
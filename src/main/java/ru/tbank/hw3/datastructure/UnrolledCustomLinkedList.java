@@ -0,0 +1,202 @@
+package ru.tbank.datastructure;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Развернутый связный список: каждый узел хранит блок из нескольких элементов в массиве,
+ * поэтому на элемент приходится одна ссылка вместо отдельного объекта Node, а поиск
+ * идет последовательным проходом по массивам.
+ */
+public class UnrolledCustomLinkedList<T> {
+
+    public static final int DEFAULT_CHUNK_CAPACITY = 64;
+
+    private final int chunkCapacity;
+    private Chunk head;
+    private Chunk tail;
+    private int size;
+
+    public UnrolledCustomLinkedList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    public UnrolledCustomLinkedList(int chunkCapacity) {
+        if (chunkCapacity < 2) {
+            throw new IllegalArgumentException("Емкость блока должна быть не меньше 2.");
+        }
+        this.chunkCapacity = chunkCapacity;
+    }
+
+    public void add(T element) {
+        if (tail == null || tail.count == chunkCapacity) {
+            appendChunk();
+        }
+        tail.elements[tail.count++] = element;
+        size++;
+    }
+
+    public void remove(T element) {
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            Object[] elements = chunk.elements;
+            for (int i = 0; i < chunk.count; i++) {
+                if (Objects.equals(element, elements[i])) {
+                    removeFromChunk(chunk, i);
+                    return;
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public T removeAt(int index) {
+        Objects.checkIndex(index, size);
+        Chunk chunk = head;
+        while (index >= chunk.count) {
+            index -= chunk.count;
+            chunk = chunk.next;
+        }
+        T removed = (T) chunk.elements[index];
+        removeFromChunk(chunk, index);
+        return removed;
+    }
+
+    public void addAll(List<T> elementsList) {
+        appendArray(elementsList.toArray(), elementsList.size());
+    }
+
+    public void addAll(UnrolledCustomLinkedList<T> elementsList) {
+        int remaining = elementsList.size;
+        for (Chunk chunk = elementsList.head; chunk != null && remaining > 0; chunk = chunk.next) {
+            int count = Math.min(chunk.count, remaining);
+            appendArray(chunk.elements, count);
+            remaining -= count;
+        }
+    }
+
+    public boolean contains(T element) {
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            Object[] elements = chunk.elements;
+            for (int i = 0; i < chunk.count; i++) {
+                if (Objects.equals(element, elements[i])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return (T) access(index, null, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    public T set(int index, T element) {
+        return (T) access(index, element, true);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Находит элемент по индексу, проходя блоки с ближайшего конца списка, и при необходимости заменяет его.
+     */
+    private Object access(int index, Object replacement, boolean replace) {
+        Objects.checkIndex(index, size);
+        Chunk chunk;
+        int offset;
+        if (index < size / 2) {
+            chunk = head;
+            while (index >= chunk.count) {
+                index -= chunk.count;
+                chunk = chunk.next;
+            }
+            offset = index;
+        } else {
+            chunk = tail;
+            int reverseIndex = size - 1 - index;
+            while (reverseIndex >= chunk.count) {
+                reverseIndex -= chunk.count;
+                chunk = chunk.previous;
+            }
+            offset = chunk.count - 1 - reverseIndex;
+        }
+        Object current = chunk.elements[offset];
+        if (replace) {
+            chunk.elements[offset] = replacement;
+        }
+        return current;
+    }
+
+    private void appendArray(Object[] source, int length) {
+        int copied = 0;
+        while (copied < length) {
+            if (tail == null || tail.count == chunkCapacity) {
+                appendChunk();
+            }
+            int batch = Math.min(chunkCapacity - tail.count, length - copied);
+            System.arraycopy(source, copied, tail.elements, tail.count, batch);
+            tail.count += batch;
+            size += batch;
+            copied += batch;
+        }
+    }
+
+    private void appendChunk() {
+        Chunk chunk = new Chunk(chunkCapacity);
+        if (tail == null) {
+            head = chunk;
+        } else {
+            tail.next = chunk;
+            chunk.previous = tail;
+        }
+        tail = chunk;
+    }
+
+    private void removeFromChunk(Chunk chunk, int index) {
+        int moved = chunk.count - index - 1;
+        if (moved > 0) {
+            System.arraycopy(chunk.elements, index + 1, chunk.elements, index, moved);
+        }
+        chunk.elements[--chunk.count] = null;
+        size--;
+        if (chunk.count == 0) {
+            unlink(chunk);
+            return;
+        }
+        Chunk next = chunk.next;
+        if (next != null && chunk.count < chunkCapacity / 2 && chunk.count + next.count <= chunkCapacity) {
+            System.arraycopy(next.elements, 0, chunk.elements, chunk.count, next.count);
+            chunk.count += next.count;
+            unlink(next);
+        }
+    }
+
+    private void unlink(Chunk chunk) {
+        Chunk previous = chunk.previous;
+        Chunk next = chunk.next;
+        if (previous == null) {
+            head = next;
+        } else {
+            previous.next = next;
+        }
+        if (next == null) {
+            tail = previous;
+        } else {
+            next.previous = previous;
+        }
+    }
+
+    private static class Chunk {
+        private final Object[] elements;
+        private int count;
+        private Chunk next;
+        private Chunk previous;
+
+        Chunk(int capacity) {
+            this.elements = new Object[capacity];
+        }
+    }
+}
@@ -34,6 +34,7 @@ public class LocationCache extends DataCache<Location, String> {
     }
 
     @Override
+    @MethodExecutionTimeTracked(sampleRate = 0.01)
     public Optional<Location> findById(String slug) {
         log.info("Получение города по slug \"{}\" из кэша.", slug);
         if (cache.containsKey(slug)) {
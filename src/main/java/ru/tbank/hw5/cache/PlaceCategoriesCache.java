@@ -41,6 +41,7 @@ public class PlaceCategoriesCache extends DataCache<PlaceCategory, Integer> {
     }
 
     @Override
+    @MethodExecutionTimeTracked(sampleRate = 0.01)
     public Optional<PlaceCategory> findById(Integer id) {
         log.info("Получение категории места по идентификатору \"{}\" из кэша.", id);
         if (cache.containsKey(id)) {
@@ -13,6 +13,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
+import ru.tbank.aop.logging.starter.annotation.Hedged;
 import ru.tbank.aop.logging.starter.annotation.MethodExecutionTimeTracked;
 import ru.tbank.hw5.dto.Location;
 import ru.tbank.hw5.dto.PlaceCategory;
@@ -42,6 +43,7 @@ public class KudaGoApiClient {
     private final RestTemplate restTemplate;
 
 
+    @Hedged(initialDelayMs = 500)
     @Nullable
     public List<PlaceCategory> getAllPlaceCategories() {
         try {
@@ -68,6 +70,7 @@ public class KudaGoApiClient {
     }
 
 
+    @Hedged(initialDelayMs = 500)
     @Nullable
     public List<Location> getAllLocations() {
         try {
@@ -1,8 +1,10 @@
 package ru.tbank.hw5.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 import ru.tbank.hw5.exception.RestTemplateResponseErrorHandler;
 import ru.tbank.hw5.interceptor.RestClientLoggingRequestInterceptor;
@@ -20,11 +22,19 @@ public class ApplicationConfiguration {
         return new RestClientLoggingRequestInterceptor();
     }
 
+    /**
+     * JSON конвертер RestTemplate заменяется на конвертер с ObjectMapper из контекста Spring,
+     * чтобы ответы KudaGo разбирались тем же маппером (с модулем Blackbird), что и в Spring MVC.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplateBuilder()
+    public RestTemplate restTemplate(ObjectMapper objectMapper) {
+        RestTemplate restTemplate = new RestTemplateBuilder()
                 .interceptors(requestLoggingInterceptor())
                 .errorHandler(responseErrorHandler())
                 .build();
+        restTemplate.getMessageConverters().replaceAll(converter -> converter instanceof MappingJackson2HttpMessageConverter
+                ? new MappingJackson2HttpMessageConverter(objectMapper)
+                : converter);
+        return restTemplate;
     }
 }
@@ -6,12 +6,16 @@ import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import ru.tbank.aop.logging.starter.annotation.Bulkhead;
+import ru.tbank.aop.logging.starter.annotation.Hedged;
+import ru.tbank.aop.logging.starter.annotation.Memoized;
+import ru.tbank.aop.logging.starter.annotation.MethodExecutionTimeTracked;
 import ru.tbank.hw8.dto.CurrencyRate;
 import ru.tbank.hw8.exception.IntegrationException;
 import ru.tbank.hw8.exception.ServiceUnavailableException;
@@ -21,8 +25,10 @@ import java.net.URI;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+@MethodExecutionTimeTracked
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -31,6 +37,7 @@ public class CentralBankClient {
     public static final String API_SERVICE_NAME = "API Центрального Банка России";
     private static final String RUB_CURRENCY_CODE = "RUB";
     private final RestClient restClient;
+    private final ObjectProvider<CentralBankClient> self;
 
     @Value("${cbr-api.base-url}")
     private String baseUrl;
@@ -39,13 +46,17 @@ public class CentralBankClient {
     @Value("${cbr-api.currency.daily-exchange-rates.date-param}")
     private String dateQueryParam;
 
-    @Cacheable(value = "currencies-rates", key = "{ #root.methodName }")
-    @CircuitBreaker(name = "central-bank-client", fallbackMethod = "fallbackGetCurrenciesExchangeRates")
+    /**
+     * Вызывает перегрузку с датой через прокси бина, чтобы результат кэшировался по текущей дате
+     * и к вызову применялись аспекты метода с датой.
+     */
     public Map<String, CurrencyRate> getCurrenciesExchangeRates() {
-        return getCurrenciesExchangeRates(LocalDate.now());
+        return self.getObject().getCurrenciesExchangeRates(LocalDate.now());
     }
 
-    @Cacheable(value = "currencies-rates", key = "{  #root.methodName, #date }")
+    @Memoized(maximumSize = 100, ttl = 1, ttlUnit = TimeUnit.HOURS)
+    @Hedged
+    @Bulkhead(maxConcurrentCalls = 20, maxWaitMs = 100)
     @CircuitBreaker(name = "central-bank-client", fallbackMethod = "fallbackGetCurrenciesExchangeRates")
     public Map<String, CurrencyRate> getCurrenciesExchangeRates(LocalDate date) {
         log.debug("Начало получения курсов валют на дату {} из сервиса {}.", date, API_SERVICE_NAME);
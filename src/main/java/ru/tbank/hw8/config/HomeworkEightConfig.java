@@ -2,10 +2,7 @@ package ru.tbank.hw8.config;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.HttpMessageConverter;
@@ -14,7 +11,6 @@ import org.springframework.web.client.RestClient;
 import ru.tbank.hw8.interceptor.RestClientLoggingInterceptor;
 
 @Configuration
-@EnableCaching
 public class HomeworkEightConfig {
 
     @Bean
@@ -34,6 +30,7 @@ public class HomeworkEightConfig {
     public HttpMessageConverter<Object> xmlMessageConverter() {
         XmlMapper xmlMapper = new XmlMapper();
         xmlMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        xmlMapper.registerModule(new BlackbirdModule());
         MappingJackson2XmlHttpMessageConverter converter = new MappingJackson2XmlHttpMessageConverter(xmlMapper);
 //        converter.setDefaultCharset("windows-1251");
         return converter;
@@ -11,6 +11,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.client.HttpServerErrorException;
+import ru.tbank.aop.logging.starter.exception.BulkheadFullException;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -99,6 +100,18 @@ public class ExceptionsHandler {
                 );
     }
 
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<?> handleBulkheadFullException(BulkheadFullException e) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status)
+                .body(new ErrorResponseMessage(
+                        status.value(),
+                        ExceptionUtils.getMessage(e).isEmpty()
+                                ? "Превышено максимальное количество одновременных запросов к внешней системе."
+                                : e.getMessage())
+                );
+    }
+
     public record ErrorResponseMessage(Integer code, String message) {
     }
 }
@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.tomcat.util.collections.CaseInsensitiveKeyMap;
 import org.springframework.stereotype.Service;
+import ru.tbank.aop.logging.starter.annotation.MethodExecutionTimeTracked;
 import ru.tbank.hw8.client.CentralBankClient;
 import ru.tbank.hw8.dto.CurrencyConvertRequest;
 import ru.tbank.hw8.dto.CurrencyConvertResponse;
@@ -18,6 +19,7 @@ import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.Map;
 
+@MethodExecutionTimeTracked
 @Slf4j
 @RequiredArgsConstructor
 @Service
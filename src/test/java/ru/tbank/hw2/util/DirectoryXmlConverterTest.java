@@ -0,0 +1,37 @@
+package ru.tbank.hw2.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.tbank.hw2.model.City;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DirectoryXmlConverterTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void convertDirectory_shouldConvertFilesAndReportFailures() throws IOException {
+        Path input = Files.createDirectories(tempDir.resolve("json/nested"));
+        Path output = tempDir.resolve("xml");
+        Files.writeString(tempDir.resolve("json/spb.json"), "{\"slug\": \"spb\", \"coords\": {\"lat\": 59.9, \"lon\": 30.3}}");
+        Files.writeString(input.resolve("msk.json"), "[{\"slug\": \"msk\", \"coords\": {\"lat\": 55.7, \"lon\": 37.6}}]");
+        Files.writeString(input.resolve("broken.json"), "{\"slug\": \"spb\", \"coo: {\"lat\": 59.9}}");
+        Files.writeString(input.resolve("notes.txt"), "не JSON");
+
+        DirectoryXmlConverter.BatchReport report = DirectoryXmlConverter.convertDirectory(tempDir.resolve("json"), output,
+                City.class, 2);
+
+        assertThat(report.total()).isEqualTo(3);
+        assertThat(report.converted()).isEqualTo(2);
+        assertThat(report.failed()).containsExactly(input.resolve("broken.json"));
+        assertThat(output.resolve("spb.xml")).exists();
+        assertThat(output.resolve("nested/msk.xml")).exists();
+        assertThat(output.resolve("nested/broken.xml")).doesNotExist();
+    }
+}
@@ -0,0 +1,28 @@
+package ru.tbank.hw2.util;
+
+import org.junit.jupiter.api.Test;
+import ru.tbank.hw2.model.City;
+import ru.tbank.hw2.model.Coordinates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JacksonMappersTest {
+
+    @Test
+    public void readersAndWriters_shouldBeCachedPerClass() {
+        assertThat(JacksonMappers.jsonReaderFor(City.class)).isSameAs(JacksonMappers.jsonReaderFor(City.class));
+        assertThat(JacksonMappers.xmlWriterFor(City.class)).isSameAs(JacksonMappers.xmlWriterFor(City.class));
+        assertThat(JacksonMappers.jsonReaderFor(City.class)).isNotSameAs(JacksonMappers.jsonReaderFor(Coordinates.class));
+    }
+
+    @Test
+    public void cachedReaderAndWriter_shouldUseModelAnnotations() throws Exception {
+        City city = JacksonMappers.jsonReaderFor(City.class)
+                .readValue("{\"slug\": \"spb\", \"coords\": {\"lat\": 59.939095, \"lon\": 30.315868}}");
+
+        String xml = JacksonMappers.xmlWriterFor(City.class).writeValueAsString(city);
+
+        assertThat(xml).isEqualTo("<City><slug>spb</slug><coordinates><latitude>59.939095</latitude>"
+                + "<longitude>30.315868</longitude></coordinates></City>");
+    }
+}
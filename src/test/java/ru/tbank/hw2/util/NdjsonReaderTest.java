@@ -0,0 +1,56 @@
+package ru.tbank.hw2.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.tbank.hw2.model.City;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NdjsonReaderTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void readRecords_shouldSkipMalformedRecordAndReportPosition() throws IOException {
+        String first = "{\"slug\": \"spb\", \"coords\": {\"lat\": 59.939095, \"lon\": 30.315868}}\n";
+        String malformed = "{\"slug\": \"spb\", \"coo: {\"lat\": 59.939095}}\n";
+        String last = "{\"slug\": \"msk\", \"coords\": {\"lat\": 55.753676, \"lon\": 37.619899}}\n";
+        Path file = tempDir.resolve("cities.ndjson");
+        Files.writeString(file, first + "\n" + malformed + last);
+        List<NdjsonReader.RecordError> errors = new ArrayList<>();
+
+        List<City> cities;
+        try (Stream<City> stream = NdjsonReader.readRecords(file, City.class, errors::add)) {
+            cities = stream.toList();
+        }
+
+        assertThat(cities).extracting(City::getSlug).containsExactly("spb", "msk");
+        assertThat(cities.get(1).getCoordinates().getLatitude()).isEqualTo(55.753676);
+        assertThat(errors).hasSize(1);
+        assertThat(errors.get(0).lineNumber()).isEqualTo(3);
+        assertThat(errors.get(0).byteOffset()).isEqualTo(first.length() + 1);
+    }
+
+    @Test
+    public void readRecords_shouldBeLazy() throws IOException {
+        Path file = tempDir.resolve("lazy.ndjson");
+        Files.writeString(file, "{\"slug\": \"spb\"}\n{\"slug\": \"msk\"}\n{broken");
+        List<NdjsonReader.RecordError> errors = new ArrayList<>();
+
+        City firstCity;
+        try (Stream<City> stream = NdjsonReader.readRecords(file, City.class, errors::add)) {
+            firstCity = stream.findFirst().orElseThrow();
+        }
+
+        assertThat(firstCity.getSlug()).isEqualTo("spb");
+        assertThat(errors).isEmpty();
+    }
+}
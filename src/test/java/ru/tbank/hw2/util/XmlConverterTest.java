@@ -0,0 +1,55 @@
+package ru.tbank.hw2.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.tbank.hw2.model.City;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class XmlConverterTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void convertJsonArrayToXml_shouldWriteEveryRecord() throws IOException {
+        Path jsonFile = tempDir.resolve("cities.json");
+        Files.writeString(jsonFile, """
+                [
+                  {"slug": "spb", "coords": {"lat": 59.939095, "lon": 30.315868}},
+                  {"slug": "msk", "coords": {"lat": 55.753676, "lon": 37.619899}}
+                ]
+                """);
+        File xmlFile = tempDir.resolve("cities.xml").toFile();
+
+        File result = XmlConverter.convertJsonArrayToXml(jsonFile.toFile(), xmlFile, City.class);
+
+        assertThat(result).isEqualTo(xmlFile);
+        String xml = Files.readString(xmlFile.toPath());
+        assertThat(xml).startsWith("<CityList><City><slug>spb</slug>");
+        assertThat(xml).contains("<slug>msk</slug><coordinates><latitude>55.753676</latitude>");
+        assertThat(xml).endsWith("</City></CityList>");
+    }
+
+    @Test
+    public void convertJsonArrayToXml_shouldDeletePartialFileOnError() throws IOException {
+        Path jsonFile = tempDir.resolve("cities-error.json");
+        Files.writeString(jsonFile, """
+                [
+                  {"slug": "spb", "coords": {"lat": 59.939095, "lon": 30.315868}},
+                  {"slug": "msk", "coo: {"lat": 55.753676}}
+                ]
+                """);
+        File xmlFile = tempDir.resolve("cities-error.xml").toFile();
+
+        File result = XmlConverter.convertJsonArrayToXml(jsonFile.toFile(), xmlFile, City.class);
+
+        assertThat(result).isNull();
+        assertThat(xmlFile).doesNotExist();
+    }
+}
@@ -0,0 +1,75 @@
+package ru.tbank.hw3;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.annotation.Testable;
+import ru.tbank.datastructure.ConcurrentCustomLinkedList;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+@Testable
+public class ConcurrentCustomLinkedListTest {
+
+    @Test
+    public void testAddRemoveContains() {
+        // Given
+        ConcurrentCustomLinkedList<Integer> linkedList = new ConcurrentCustomLinkedList<>();
+        linkedList.addAll(IntStream.range(0, 10).boxed().toList());
+
+        // When
+        boolean removed = linkedList.remove(9);
+        linkedList.add(10);
+
+        // Then
+        Assertions.assertTrue(removed);
+        Assertions.assertFalse(linkedList.contains(9));
+        Assertions.assertTrue(linkedList.contains(10));
+        List<Integer> elements = new ArrayList<>();
+        linkedList.forEach(elements::add);
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 10), elements);
+    }
+
+    @Test
+    public void testConcurrentProducersDoNotLoseElements() throws Exception {
+        // Given
+        ConcurrentCustomLinkedList<Integer> linkedList = new ConcurrentCustomLinkedList<>();
+        int threads = 8;
+        int elementsPerThread = 10_000;
+        int retainedPerThread = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            int offset = thread * elementsPerThread;
+            futures.add(executor.submit(() -> {
+                ArrayDeque<Integer> added = new ArrayDeque<>();
+                for (int i = 0; i < elementsPerThread; i++) {
+                    linkedList.add(offset + i);
+                    added.add(offset + i);
+                    if (added.size() > retainedPerThread) {
+                        Assertions.assertTrue(linkedList.remove(added.poll()));
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Then
+        int iterated = 0;
+        for (Integer ignored : linkedList) {
+            iterated++;
+        }
+        Assertions.assertEquals(threads * retainedPerThread, linkedList.size());
+        Assertions.assertEquals(threads * retainedPerThread, iterated);
+    }
+}
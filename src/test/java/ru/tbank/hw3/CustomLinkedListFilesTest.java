@@ -0,0 +1,86 @@
+package ru.tbank.hw3;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.annotation.Testable;
+import ru.tbank.datastructure.CustomLinkedList;
+import ru.tbank.datastructure.CustomLinkedListFiles;
+import ru.tbank.datastructure.ElementCodec;
+import ru.tbank.datastructure.MappedLinkedList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+@Testable
+public class CustomLinkedListFilesTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void testWriteAndReadStrings() throws IOException {
+        // Given
+        Path file = tempDir.resolve("strings.bin");
+        CustomLinkedList<String> linkedList = new CustomLinkedList<>();
+        linkedList.addAll(Arrays.asList("spb", null, "", "москва", "x".repeat(100_000)));
+
+        // When
+        CustomLinkedListFiles.write(linkedList, ElementCodec.ofString(), file);
+        CustomLinkedList<String> restored = CustomLinkedListFiles.read(file, ElementCodec.ofString());
+
+        // Then
+        Assertions.assertEquals(Arrays.asList("spb", null, "", "москва", "x".repeat(100_000)), new ArrayList<>(restored));
+    }
+
+    @Test
+    public void testMappedViewDecodesInPlace() throws IOException {
+        // Given
+        Path file = tempDir.resolve("longs.bin");
+        CustomLinkedList<Long> linkedList = new CustomLinkedList<>();
+        LongStream.range(0, 10_000).forEach(linkedList::add);
+        CustomLinkedListFiles.write(linkedList, ElementCodec.ofLong(), file);
+
+        // When
+        MappedLinkedList<Long> view = CustomLinkedListFiles.map(file, ElementCodec.ofLong());
+        long sum = view.stream().mapToLong(Long::longValue).sum();
+
+        // Then
+        Assertions.assertEquals(10_000, view.size());
+        Assertions.assertEquals(49_995_000L, sum);
+        Assertions.assertEquals(12 + 10_000 * 12, Files.size(file));
+    }
+
+    @Test
+    public void testRecordsSpanningMappedRegionsAreDecoded() throws IOException {
+        // Given
+        Path file = tempDir.resolve("regions.bin");
+        CustomLinkedList<String> linkedList = new CustomLinkedList<>();
+        for (int i = 0; i < 200; i++) {
+            linkedList.add(i % 7 == 0 ? null : "значение-" + "x".repeat(i % 13) + i);
+        }
+        CustomLinkedListFiles.write(linkedList, ElementCodec.ofString(), file);
+
+        // When
+        MappedLinkedList<String> smallRegions = CustomLinkedListFiles.map(file, ElementCodec.ofString(), 7);
+        MappedLinkedList<String> pageRegions = CustomLinkedListFiles.map(file, ElementCodec.ofString(), 4096);
+
+        // Then
+        Assertions.assertEquals(new ArrayList<>(linkedList), new ArrayList<>(smallRegions));
+        Assertions.assertEquals(new ArrayList<>(linkedList), new ArrayList<>(pageRegions));
+    }
+
+    @Test
+    public void testForeignFileIsRejected() throws IOException {
+        // Given
+        Path file = tempDir.resolve("foreign.bin");
+        Files.writeString(file, "not a linked list");
+
+        // When / Then
+        Assertions.assertThrows(IOException.class, () -> CustomLinkedListFiles.map(file, ElementCodec.ofLong()));
+    }
+}
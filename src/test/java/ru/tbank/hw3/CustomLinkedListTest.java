@@ -6,9 +6,13 @@ import org.junit.platform.commons.annotation.Testable;
 import ru.tbank.datastructure.CustomLinkedList;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.Random;
+import java.util.Spliterator;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -119,4 +123,225 @@ public class CustomLinkedListTest {
         // Then
         Assertions.assertEquals(numbers.size(), linkedList.size());
     }
+
+    @Test
+    public void testAddAllKeepsLastElement() {
+        // Given
+        CustomLinkedList<Integer> linkedList = new CustomLinkedList<>();
+        CustomLinkedList<Integer> otherList = new CustomLinkedList<>();
+        otherList.addAll(List.of(1, 2, 3));
+
+        // When
+        linkedList.addAll(otherList);
+
+        // Then
+        Assertions.assertEquals(3, linkedList.size());
+        Assertions.assertTrue(linkedList.contains(3));
+        Assertions.assertEquals(3, otherList.size());
+    }
+
+    @Test
+    public void testConcatMovesNodes() {
+        // Given
+        CustomLinkedList<Integer> linkedList = new CustomLinkedList<>();
+        linkedList.addAll(List.of(1, 2));
+        CustomLinkedList<Integer> otherList = new CustomLinkedList<>();
+        otherList.addAll(List.of(3, 4));
+
+        // When
+        linkedList.concat(otherList);
+
+        // Then
+        Assertions.assertEquals(List.of(1, 2, 3, 4), linkedList.subList(0, 4).toList());
+        Assertions.assertEquals(0, otherList.size());
+        Assertions.assertFalse(otherList.contains(3));
+    }
+
+    @Test
+    public void testSplitAt() {
+        // Given
+        CustomLinkedList<Integer> linkedList = new CustomLinkedList<>();
+        linkedList.addAll(IntStream.range(0, 10).boxed().toList());
+
+        // When
+        CustomLinkedList<Integer> suffix = linkedList.splitAt(4);
+
+        // Then
+        Assertions.assertEquals(4, linkedList.size());
+        Assertions.assertEquals(6, suffix.size());
+        Assertions.assertEquals(3, linkedList.get(3));
+        Assertions.assertEquals(4, suffix.get(0));
+        Assertions.assertFalse(linkedList.contains(4));
+    }
+
+    @Test
+    public void testTransferTo() {
+        // Given
+        CustomLinkedList<Integer> source = new CustomLinkedList<>();
+        source.addAll(List.of(3, 4));
+        CustomLinkedList<Integer> target = new CustomLinkedList<>();
+        target.addAll(List.of(1, 2));
+
+        // When
+        source.transferTo(target);
+
+        // Then
+        Assertions.assertEquals(0, source.size());
+        Assertions.assertEquals(List.of(1, 2, 3, 4), target.subList(0, target.size()).toList());
+    }
+
+    @Test
+    public void testSubListIsLiveView() {
+        // Given
+        CustomLinkedList<Integer> linkedList = new CustomLinkedList<>();
+        linkedList.addAll(IntStream.range(0, 10).boxed().toList());
+        CustomLinkedList<Integer>.SubList subList = linkedList.subList(2, 5);
+
+        // When
+        subList.set(0, 42);
+
+        // Then
+        Assertions.assertEquals(42, linkedList.get(2));
+        Assertions.assertEquals(List.of(42, 3, 4), subList.toList());
+        linkedList.add(10);
+        Assertions.assertThrows(ConcurrentModificationException.class, subList::size);
+    }
+
+    @Test
+    public void testSubListContainsHandlesNullElements() {
+        // Given
+        CustomLinkedList<Integer> linkedList = new CustomLinkedList<>();
+        linkedList.addAll(Arrays.asList(1, null, 3, 4, null));
+        CustomLinkedList<Integer>.SubList subList = linkedList.subList(0, 3);
+
+        // When
+        boolean containsNull = subList.contains(null);
+        boolean containsThree = subList.contains(3);
+        boolean containsFour = subList.contains(4);
+
+        // Then
+        Assertions.assertTrue(containsNull);
+        Assertions.assertTrue(containsThree);
+        Assertions.assertFalse(containsFour);
+        Assertions.assertFalse(linkedList.subList(2, 4).contains(null));
+    }
+
+    @Test
+    public void testParallelStreamAggregatesAllElements() {
+        // Given
+        CustomLinkedList<Integer> linkedList = new CustomLinkedList<>();
+        linkedList.addAll(IntStream.range(0, 100_000).boxed().toList());
+
+        // When
+        long sum = linkedList.parallelStream().mapToLong(Integer::longValue).sum();
+        List<Integer> evenNumbers = linkedList.parallelStream().filter(number -> number % 2 == 0).toList();
+
+        // Then
+        Assertions.assertEquals(4_999_950_000L, sum);
+        Assertions.assertEquals(50_000, evenNumbers.size());
+        Assertions.assertEquals(99_998, evenNumbers.get(evenNumbers.size() - 1));
+    }
+
+    @Test
+    public void testSpliteratorSplitsInGrowingBatches() {
+        // Given
+        CustomLinkedList<Integer> linkedList = new CustomLinkedList<>();
+        linkedList.addAll(IntStream.range(0, 5_000).boxed().toList());
+        Spliterator<Integer> spliterator = linkedList.spliterator();
+
+        // When
+        Spliterator<Integer> firstBatch = spliterator.trySplit();
+        Spliterator<Integer> secondBatch = spliterator.trySplit();
+
+        // Then
+        Assertions.assertEquals(1_024, firstBatch.getExactSizeIfKnown());
+        Assertions.assertEquals(2_048, secondBatch.getExactSizeIfKnown());
+        Assertions.assertEquals(1_928, spliterator.getExactSizeIfKnown());
+        List<Integer> elements = new ArrayList<>();
+        firstBatch.forEachRemaining(elements::add);
+        secondBatch.forEachRemaining(elements::add);
+        spliterator.forEachRemaining(elements::add);
+        Assertions.assertEquals(IntStream.range(0, 5_000).boxed().toList(), elements);
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        // Given
+        CustomLinkedList<Integer> linkedList = new CustomLinkedList<>();
+        linkedList.addAll(IntStream.range(0, 10).boxed().toList());
+
+        // When
+        Iterator<Integer> iterator = linkedList.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 1) {
+                iterator.remove();
+            }
+        }
+
+        // Then
+        Assertions.assertEquals(List.of(0, 2, 4, 6, 8), List.copyOf(linkedList));
+    }
+
+    @Test
+    public void testIndexedListRemovesFirstDuplicate() {
+        // Given
+        CustomLinkedList<String> linkedList = CustomLinkedList.indexed();
+        linkedList.addAll(List.of("a", "b", "a", "c", "a"));
+
+        // When
+        boolean removed = linkedList.remove("a");
+
+        // Then
+        Assertions.assertTrue(removed);
+        Assertions.assertEquals(List.of("b", "a", "c", "a"), List.copyOf(linkedList));
+        Assertions.assertTrue(linkedList.contains("a"));
+        Assertions.assertFalse(linkedList.contains("d"));
+    }
+
+    @Test
+    public void testIndexedListFollowsStructuralChanges() {
+        // Given
+        CustomLinkedList<Integer> linkedList = CustomLinkedList.indexed();
+        linkedList.addAll(IntStream.range(0, 10).boxed().toList());
+
+        // When
+        CustomLinkedList<Integer> suffix = linkedList.splitAt(5);
+        linkedList.subList(0, 5).set(0, 7);
+        linkedList.remove(7);
+
+        // Then
+        Assertions.assertFalse(linkedList.contains(5));
+        Assertions.assertTrue(suffix.contains(5));
+        Assertions.assertEquals(List.of(1, 2, 3, 4), List.copyOf(linkedList));
+        suffix.transferTo(linkedList);
+        Assertions.assertTrue(linkedList.contains(9));
+        Assertions.assertFalse(suffix.contains(9));
+    }
+
+    @Test
+    public void testPooledListUnderQueueChurn() {
+        // Given
+        CustomLinkedList<Integer> linkedList = CustomLinkedList.pooled(4);
+        linkedList.addAll(IntStream.range(0, 8).boxed().toList());
+
+        // When
+        for (int i = 8; i < 100; i++) {
+            Iterator<Integer> iterator = linkedList.iterator();
+            iterator.next();
+            iterator.remove();
+            linkedList.add(i);
+        }
+        linkedList.removeIf(element -> element % 2 == 0);
+        linkedList.addAll(List.of(-1, -2, -3, -4, -5, -6));
+
+        // Then
+        Assertions.assertTrue(linkedList.isPooled());
+        Assertions.assertEquals(List.of(93, 95, 97, 99, -1, -2, -3, -4, -5, -6), List.copyOf(linkedList));
+        Assertions.assertEquals(-6, linkedList.get(9));
+    }
+
+    @Test
+    public void testPooledListRejectsNonPositiveCapacity() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CustomLinkedList.pooled(0));
+    }
 }
@@ -0,0 +1,80 @@
+package ru.tbank.hw3;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.annotation.Testable;
+import ru.tbank.datastructure.OffHeapLinkedList;
+import ru.tbank.datastructure.RecordCodec;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.LongStream;
+
+@Testable
+public class OffHeapLinkedListTest {
+
+    @Test
+    public void testAddRemoveContainsAcrossSlabs() {
+        // Given
+        try (OffHeapLinkedList<Long> linkedList = new OffHeapLinkedList<>(RecordCodec.ofLong(), 2)) {
+            LongStream.range(0, 20).forEach(linkedList::add);
+
+            // When
+            boolean removed = linkedList.remove(7L);
+            boolean removedMissing = linkedList.remove(100L);
+            linkedList.add(42L);
+
+            // Then
+            Assertions.assertTrue(removed);
+            Assertions.assertFalse(removedMissing);
+            Assertions.assertEquals(20, linkedList.size());
+            Assertions.assertFalse(linkedList.contains(7L));
+            Assertions.assertTrue(linkedList.contains(42L));
+            Assertions.assertFalse(linkedList.contains(42));
+            Assertions.assertEquals(19L, new ArrayList<>(linkedList).get(18));
+        }
+    }
+
+    @Test
+    public void testFreedNodesAreReused() {
+        // Given
+        try (OffHeapLinkedList<Integer> linkedList = new OffHeapLinkedList<>(RecordCodec.ofInt(), 4)) {
+            for (int i = 0; i < 16; i++) {
+                linkedList.add(i);
+            }
+            long bytesBefore = linkedList.offHeapBytes();
+
+            // When
+            Iterator<Integer> iterator = linkedList.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next() % 2 == 0) {
+                    iterator.remove();
+                }
+            }
+            for (int i = 0; i < 8; i++) {
+                linkedList.add(100 + i);
+            }
+
+            // Then
+            Assertions.assertEquals(bytesBefore, linkedList.offHeapBytes());
+            Assertions.assertEquals(List.of(1, 3, 5, 7, 9, 11, 13, 15, 100, 101, 102, 103, 104, 105, 106, 107),
+                    new ArrayList<>(linkedList));
+        }
+    }
+
+    @Test
+    public void testClosedListIsUnusable() {
+        // Given
+        OffHeapLinkedList<Double> linkedList = new OffHeapLinkedList<>(RecordCodec.ofDouble());
+        linkedList.add(Double.NaN);
+
+        // When
+        linkedList.close();
+
+        // Then
+        Assertions.assertEquals(0, linkedList.offHeapBytes());
+        Assertions.assertThrows(IllegalStateException.class, () -> linkedList.add(1.0));
+        Assertions.assertThrows(IllegalStateException.class, () -> linkedList.contains(1.0));
+    }
+}
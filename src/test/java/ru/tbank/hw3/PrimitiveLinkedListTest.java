@@ -0,0 +1,65 @@
+package ru.tbank.hw3;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.annotation.Testable;
+import ru.tbank.datastructure.DoubleLinkedList;
+import ru.tbank.datastructure.IntLinkedList;
+import ru.tbank.datastructure.LongLinkedList;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+@Testable
+public class PrimitiveLinkedListTest {
+
+    @Test
+    public void testIntListAddRemoveContains() {
+        // Given
+        IntLinkedList linkedList = new IntLinkedList(4);
+        linkedList.addAll(IntStream.range(0, 50).toArray());
+
+        // When
+        linkedList.remove(25);
+        linkedList.add(100);
+
+        // Then
+        Assertions.assertEquals(50, linkedList.size());
+        Assertions.assertFalse(linkedList.contains(25));
+        Assertions.assertTrue(linkedList.contains(100));
+        Assertions.assertEquals(26, linkedList.get(25));
+    }
+
+    @Test
+    public void testLongListForEach() {
+        // Given
+        LongLinkedList linkedList = new LongLinkedList(8);
+        linkedList.addAll(LongStream.rangeClosed(1, 100).toArray());
+        long[] sum = new long[1];
+
+        // When
+        linkedList.forEach(value -> sum[0] += value);
+
+        // Then
+        Assertions.assertEquals(5050, sum[0]);
+        Assertions.assertArrayEquals(LongStream.rangeClosed(1, 100).toArray(), linkedList.toArray());
+    }
+
+    @Test
+    public void testDoubleListComparesLikeDoubleEquals() {
+        // Given
+        DoubleLinkedList linkedList = new DoubleLinkedList();
+        linkedList.addAll(new double[]{0.5, Double.NaN, 0.0});
+
+        // When
+        boolean containsNaN = linkedList.contains(Double.NaN);
+        boolean containsNegativeZero = linkedList.contains(-0.0);
+        double removed = linkedList.removeAt(0);
+
+        // Then
+        Assertions.assertTrue(containsNaN);
+        Assertions.assertFalse(containsNegativeZero);
+        Assertions.assertEquals(0.5, removed);
+        Assertions.assertEquals(2, linkedList.size());
+    }
+}
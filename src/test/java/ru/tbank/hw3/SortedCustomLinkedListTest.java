@@ -0,0 +1,93 @@
+package ru.tbank.hw3;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.annotation.Testable;
+import ru.tbank.datastructure.SortedCustomLinkedList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Testable
+public class SortedCustomLinkedListTest {
+
+    @Test
+    public void testElementsAreKeptSorted() {
+        // Given
+        SortedCustomLinkedList<Integer> linkedList = SortedCustomLinkedList.naturalOrder();
+
+        // When
+        linkedList.addAll(List.of(5, 1, 4, 1, 3));
+
+        // Then
+        Assertions.assertEquals(List.of(1, 1, 3, 4, 5), List.copyOf(linkedList));
+        Assertions.assertEquals(1, linkedList.first());
+        Assertions.assertEquals(5, linkedList.last());
+    }
+
+    @Test
+    public void testFloorAndCeiling() {
+        // Given
+        SortedCustomLinkedList<Integer> linkedList = SortedCustomLinkedList.naturalOrder();
+        linkedList.addAll(List.of(10, 20, 30));
+
+        // When / Then
+        Assertions.assertEquals(20, linkedList.floor(25));
+        Assertions.assertEquals(30, linkedList.ceiling(25));
+        Assertions.assertEquals(20, linkedList.floor(20));
+        Assertions.assertNull(linkedList.floor(5));
+        Assertions.assertNull(linkedList.ceiling(35));
+    }
+
+    @Test
+    public void testRangeIteration() {
+        // Given
+        SortedCustomLinkedList<String> linkedList = new SortedCustomLinkedList<>(Comparator.reverseOrder());
+        linkedList.addAll(List.of("a", "b", "c", "d", "e"));
+
+        // When
+        List<String> range = new ArrayList<>();
+        linkedList.range("d", "a").forEach(range::add);
+
+        // Then
+        Assertions.assertEquals(List.of("d", "c", "b"), range);
+    }
+
+    @Test
+    public void testRemoveAndContains() {
+        // Given
+        SortedCustomLinkedList<Integer> linkedList = SortedCustomLinkedList.naturalOrder();
+        for (int i = 0; i < 1000; i++) {
+            linkedList.add(i);
+        }
+
+        // When
+        boolean removed = linkedList.remove(500);
+        boolean removedMissing = linkedList.remove(5000);
+
+        // Then
+        Assertions.assertTrue(removed);
+        Assertions.assertFalse(removedMissing);
+        Assertions.assertFalse(linkedList.contains(500));
+        Assertions.assertTrue(linkedList.contains(501));
+        Assertions.assertEquals(999, linkedList.size());
+    }
+
+    @Test
+    public void testElementOfOtherTypeIsNotFound() {
+        // Given
+        SortedCustomLinkedList<Long> linkedList = SortedCustomLinkedList.naturalOrder();
+        linkedList.addAll(List.of(41L, 42L, 43L));
+
+        // When
+        boolean contained = linkedList.contains(42);
+        boolean removed = linkedList.remove(42);
+
+        // Then
+        Assertions.assertFalse(contained);
+        Assertions.assertFalse(removed);
+        Assertions.assertEquals(3, linkedList.size());
+        Assertions.assertTrue(linkedList.contains(42L));
+    }
+}
@@ -0,0 +1,87 @@
+package ru.tbank.hw3;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.annotation.Testable;
+import ru.tbank.datastructure.UnrolledCustomLinkedList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@Testable
+public class UnrolledCustomLinkedListTest {
+
+    @Test
+    public void testAddAndGetAcrossChunks() {
+        // Given
+        UnrolledCustomLinkedList<Integer> linkedList = new UnrolledCustomLinkedList<>(4);
+        linkedList.addAll(IntStream.range(0, 50).boxed().toList());
+
+        // When
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < linkedList.size(); i++) {
+            result.add(linkedList.get(i));
+        }
+
+        // Then
+        Assertions.assertEquals(IntStream.range(0, 50).boxed().toList(), result);
+    }
+
+    @Test
+    public void testRemoveKeepsOrder() {
+        // Given
+        UnrolledCustomLinkedList<Integer> linkedList = new UnrolledCustomLinkedList<>(4);
+        List<Integer> expected = new ArrayList<>(IntStream.range(0, 30).boxed().toList());
+        linkedList.addAll(expected);
+
+        // When
+        for (int i = 0; i < 30; i += 3) {
+            linkedList.remove(i);
+            expected.remove(Integer.valueOf(i));
+        }
+        Integer removed = linkedList.removeAt(0);
+        expected.remove(0);
+
+        // Then
+        Assertions.assertEquals(1, removed);
+        Assertions.assertEquals(expected.size(), linkedList.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(expected.get(i), linkedList.get(i));
+        }
+        Assertions.assertFalse(linkedList.contains(0));
+        Assertions.assertTrue(linkedList.contains(29));
+    }
+
+    @Test
+    public void testAddAllFromUnrolledList() {
+        // Given
+        UnrolledCustomLinkedList<Integer> first = new UnrolledCustomLinkedList<>(8);
+        UnrolledCustomLinkedList<Integer> second = new UnrolledCustomLinkedList<>(8);
+        first.addAll(IntStream.range(0, 10).boxed().toList());
+        second.addAll(IntStream.range(10, 25).boxed().toList());
+
+        // When
+        first.addAll(second);
+
+        // Then
+        Assertions.assertEquals(25, first.size());
+        Assertions.assertEquals(24, first.get(24));
+        Assertions.assertTrue(first.contains(10));
+    }
+
+    @Test
+    public void testSetReplacesElement() {
+        // Given
+        UnrolledCustomLinkedList<String> linkedList = new UnrolledCustomLinkedList<>(2);
+        linkedList.addAll(List.of("a", "b", "c", "d", "e"));
+
+        // When
+        String previous = linkedList.set(3, "x");
+
+        // Then
+        Assertions.assertEquals("d", previous);
+        Assertions.assertEquals("x", linkedList.get(3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> linkedList.get(5));
+    }
+}
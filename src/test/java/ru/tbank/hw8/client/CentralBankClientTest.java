@@ -9,7 +9,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.cache.CacheManager;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -20,6 +19,7 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.wiremock.integrations.testcontainers.WireMockContainer;
 import ru.tbank.HomeworkApplication;
+import ru.tbank.aop.logging.starter.memoization.MemoizedCacheRegistry;
 import ru.tbank.hw8.client.CentralBankClient;
 import ru.tbank.hw8.dto.CurrencyRate;
 import ru.tbank.hw8.exception.ServiceUnavailableException;
@@ -27,7 +27,6 @@ import ru.tbank.hw8.exception.ServiceUnavailableException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
-import java.util.Objects;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -51,10 +50,7 @@ public class CentralBankClientTest {
     private CircuitBreakerRegistry circuitBreakerRegistry;
 
     @Autowired
-    private CacheManager cacheManager;
-
-    @Value("${spring.cache.cache-names}")
-    private String cacheName;
+    private MemoizedCacheRegistry memoizedCacheRegistry;
 
     @Value("${cbr-api.currency.daily-exchange-rates.path}")
     private String currencyExchangeRatesPath;
@@ -73,12 +69,12 @@ public class CentralBankClientTest {
     @BeforeEach
     public void setup() {
         WireMock.resetToDefault();
-        Objects.requireNonNull(cacheManager.getCache(cacheName)).clear();
+        memoizedCacheRegistry.invalidateAll();
         circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME).reset();
     }
 
     private void clearCache() {
-
+        memoizedCacheRegistry.invalidateAll();
     }
 
     @DynamicPropertySource
@@ -190,4 +186,37 @@ public class CentralBankClientTest {
         assertThat(circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME).getState())
                 .isEqualTo(CircuitBreaker.State.CLOSED);
     }
+
+    @Test
+    @Order(4)
+    void testGetExchangeRates_withoutDate_cachedByCurrentDate() {
+        // Given
+        LocalDate today = LocalDate.now();
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+        String urlPath = String.format("%s?%s=%s", currencyExchangeRatesPath, dateQueryParam, today.format(formatter));
+        stubFor(get(urlEqualTo(urlPath))
+                .willReturn(aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE,
+                                MediaType.APPLICATION_XML_VALUE)
+                        .withBody(""" 
+                                <ValCurs Date="04.10.2024" name="Foreign Currency Market">
+                                    <Valute ID="R01375">
+                                        <NumCode>156</NumCode>
+                                        <CharCode>CNY</CharCode>
+                                        <Nominal>1</Nominal>
+                                        <Name>Китайский юань</Name>
+                                        <Value>13,4808</Value>
+                                        <VunitRate>13,4808</VunitRate>
+                                    </Valute>
+                                </ValCurs>""")));
+
+        // When
+        Map<String, CurrencyRate> withoutDate = centralBankClient.getCurrenciesExchangeRates();
+        Map<String, CurrencyRate> withDate = centralBankClient.getCurrenciesExchangeRates(today);
+
+        // Then
+        assertThat(withDate).isSameAs(withoutDate);
+        verify(1, getRequestedFor(urlEqualTo(urlPath)));
+    }
 }